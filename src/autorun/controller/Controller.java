@@ -1,9 +1,11 @@
 package autorun.controller;
 
+import autorun.view.Assets;
 import autorun.view.Designer;
 
+import javax.sound.sampled.LineUnavailableException;
 import javax.swing.*;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <h3> Controller - autorun. </h3>
@@ -21,6 +23,15 @@ public class Controller {
      * @param args  The source file and target file path
      **/
     public static void main(String[] args) {
+        // Decode every image and sound in the background, while the class stats load and the window opens.
+        CompletableFuture<Void> assets = Assets.preloadAsync();
+        // Load and validate class stats.
+        try {
+            nwarena.model.ClassStats.getDefault();
+        } catch (Exception exc) {
+            Designer.showMessage("Autorun - Error.", "Could not load class stats.\nThe application will now terminate.\n" + exc);
+            Controller.exit(23);
+        }
         // New Designer.
         try {
             new Designer();
@@ -29,6 +40,30 @@ public class Controller {
             Controller.exit(29);
         }
         Designer.show();
+        // Enable the window once every asset is decoded.
+        assets.whenComplete((ignored, exc) -> SwingUtilities.invokeLater(() -> assetsOnLoad(exc)));
+    }
+
+    /**
+     * Preload Event Listener:
+     * <p> Open the audio lines, start background music and enable the window. </p>
+     *
+     * @param exc  Cause, if an asset could not be decoded, otherwise null.
+     **/
+    private static void assetsOnLoad(Throwable exc) {
+        if (exc != null) {
+            Designer.showMessage("Autorun - Error.", "Could not load asset files.\nThe application will now terminate.\n" + exc.getCause());
+            Controller.exit(31);
+        }
+        try {
+            Designer.openAudio();
+        } catch (LineUnavailableException | RuntimeException audioExc) {
+            Designer.showMessage("Autorun - Error.", "Could not load Model.\nThe application will now terminate.\n" + audioExc);
+            Controller.exit(29);
+        }
+        Designer.startBackgroundMusic();
+        Designer.setInteractive(true);
+        StartupMetrics.markInteractive();
     }
 
     /**
@@ -40,7 +75,7 @@ public class Controller {
      **/
     public static void exitOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(Controller.class.getResource("/img/buttons/Button_PExit.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PExit.png"));
         // Stop background music and play click SFX.
         Designer.stopBackgroundMusic();
         Designer.playSoundEffect();
@@ -59,7 +94,7 @@ public class Controller {
      **/
     public static void playOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(Controller.class.getResource("/img/buttons/Button_PPlay.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PPlay.png"));
         // Stop background music and play click SFX.
         Designer.stopBackgroundMusic();
         Designer.playSoundEffect();
@@ -0,0 +1,65 @@
+package autorun.controller;
+
+import java.time.Instant;
+
+/**
+ * <h3> Startup Metrics - autorun. </h3>
+ * Measures time-to-first-frame and time-to-interactive, from the start of the JVM.
+ * <p>
+ *     The first frame is marked when the autorun window opens, and the application is interactive once every
+ *     asset is decoded and the buttons of the window are enabled. Both times are printed on the standard output,
+ *     once the application is interactive.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class StartupMetrics {
+
+    /** Start of the JVM, in milliseconds since the epoch. */
+    private static final long START = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli).orElse(System.currentTimeMillis());
+
+    private static volatile long _firstFrame = -1, _interactive = -1;
+
+    private StartupMetrics() {
+    }
+
+    /** Mark the first frame, if not marked already. */
+    public static synchronized void markFirstFrame() {
+        if (_firstFrame < 0) _firstFrame = System.currentTimeMillis() - START;
+        report();
+    }
+
+    /** Mark the application as interactive, if not marked already. */
+    public static synchronized void markInteractive() {
+        if (_interactive < 0) _interactive = System.currentTimeMillis() - START;
+        report();
+    }
+
+    /**
+     * Get the time-to-first-frame.
+     *
+     * @return Milliseconds from the start of the JVM to the first frame, or -1 if not marked yet.
+     */
+    public static long getTimeToFirstFrame() {
+        return _firstFrame;
+    }
+
+    /**
+     * Get the time-to-interactive.
+     *
+     * @return Milliseconds from the start of the JVM till the application was interactive, or -1 if not marked yet.
+     */
+    public static long getTimeToInteractive() {
+        return _interactive;
+    }
+
+    /** Print both times, once both are marked. */
+    private static void report() {
+        if (_firstFrame >= 0 && _interactive >= 0)
+            System.out.printf("[Startup] First frame %d ms, interactive %d ms%n", _firstFrame, _interactive);
+    }
+
+}
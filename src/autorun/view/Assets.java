@@ -0,0 +1,234 @@
+package autorun.view;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.*;
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * <h3> Assets - autorun. </h3>
+ * Registry of decoded images and sounds, shared by the Designers and Controllers of autorun, nwmain and nwarena.
+ * <p>
+ *     Every asset is decoded once, on first use or through {@link #preloadAsync()}, and the same instance is
+ *     returned for every later request of its resource path. Switching a button between its normal, hover and
+ *     pressed image is a lookup, instead of a PNG decode on the Event Dispatch Thread.
+ * </p>
+ * <p>
+ *     {@link #preloadAsync()} decodes every image and every short sound in parallel, on background threads. A
+ *     request for an asset which is still being decoded waits for that decode, instead of starting another.
+ *     Arena music is not preloaded, as each track takes tens of megabytes once decoded.
+ * </p>
+ *
+ * @implNote {@code Assets} is thread-safe. Each asset is kept as a future, which is added to the map before the
+ * asset is decoded, so decoding one asset never blocks a request for another. The returned instances are shared,
+ * and should not be modified.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class Assets {
+
+    /** Resource path of every image used by the application. */
+    private static final String[] IMAGES = {
+            "/icon.png",
+            "/img/img_autorun.png", "/img/img_menu.png", "/img/img_credits.png", "/img/img_newg.png",
+            "/img/img_gbackground.png",
+            "/img/img_p1.png", "/img/img_p2.png", "/img/img_p3.png", "/img/img_p4.png", "/img/img_m.png",
+            "/img/buttons/Button_Play.png", "/img/buttons/Button_HPlay.png", "/img/buttons/Button_PPlay.png",
+            "/img/buttons/Button_New.png", "/img/buttons/Button_HNew.png", "/img/buttons/Button_PNew.png",
+            "/img/buttons/Button_Credits.png", "/img/buttons/Button_HCredits.png", "/img/buttons/Button_PCredits.png",
+            "/img/buttons/Button_Exit.png", "/img/buttons/Button_HExit.png", "/img/buttons/Button_PExit.png",
+            "/img/buttons/Button_OK.png", "/img/buttons/Button_HOK.png", "/img/buttons/Button_POK.png",
+            "/img/buttons/Button_Close.png", "/img/buttons/Button_HClose.png", "/img/buttons/Button_PClose.png",
+            "/img/buttons/Button_Terminate.png", "/img/buttons/Button_Rest.png"
+    };
+    /** Resource path of every sound kept in memory: the click SFX and the music of nwmain. */
+    private static final String[] SOUNDS = {"/mus/mus_click.wav", "/mus/mus_main.wav"};
+
+    private static final ConcurrentHashMap<String, CompletableFuture<ImageIcon>> ICONS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, CompletableFuture<Sound>> SOUND_DATA = new ConcurrentHashMap<>();
+    private static ExecutorService _executor;
+
+    /**
+     * Decoded sound: its PCM format and samples.
+     *
+     * @param format  {@link AudioFormat} of {@code data}.
+     * @param data  PCM samples.
+     */
+    public record Sound(AudioFormat format, byte[] data) {
+    }
+
+    private Assets() {
+    }
+
+    /**
+     * Get the decoded image of {@code path}, decoding it on first use.
+     *
+     * @param path  Resource path of the image, such as {@code /img/img_p1.png}.
+     *
+     * @return The shared {@link ImageIcon}.
+     *
+     * @throws NullPointerException If there is no resource on {@code path}.
+     * @throws UncheckedIOException If the resource could not be decoded.
+     */
+    public static ImageIcon getIcon(String path) {
+        return load(ICONS, path, Assets::decodeImage);
+    }
+
+    /**
+     * Get the decoded image of {@code path}, as an {@link Image}.
+     *
+     * @param path  Resource path of the image.
+     *
+     * @return The shared {@link Image}.
+     */
+    public static Image getImage(String path) {
+        return getIcon(path).getImage();
+    }
+
+    /**
+     * Get the decoded sound of {@code path}, decoding it on first use.
+     *
+     * @param path  Resource path of the sound, such as {@code /mus/mus_click.wav}.
+     *
+     * @return The shared {@link Sound}.
+     *
+     * @throws NullPointerException If there is no resource on {@code path}.
+     * @throws UncheckedIOException If the resource could not be decoded.
+     */
+    public static Sound getSound(String path) {
+        return load(SOUND_DATA, path, Assets::decodeSound);
+    }
+
+    /**
+     * Open a new {@link Clip} on the decoded sound of {@code path}.
+     *
+     * @param path  Resource path of the sound.
+     *
+     * @return The open {@link Clip}.
+     *
+     * @throws LineUnavailableException If no {@link Clip} is available.
+     */
+    public static Clip openClip(String path) throws LineUnavailableException {
+        Sound sound = getSound(path);
+        Clip clip = AudioSystem.getClip();
+        clip.open(sound.format(), sound.data(), 0, sound.data().length);
+        return clip;
+    }
+
+    /**
+     * Decode every image and sound of the application in parallel, on background threads. Assets without a
+     * resource are skipped, and fail when they are requested.
+     *
+     * @return A future, completed when every asset is decoded, or exceptionally if one could not be decoded.
+     */
+    public static CompletableFuture<Void> preloadAsync() {
+        Executor executor = getExecutor();
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        for (String path : IMAGES) {
+            if (Assets.class.getResource(path) != null) loads.add(CompletableFuture.runAsync(() -> getIcon(path), executor));
+        }
+        for (String path : SOUNDS) {
+            if (Assets.class.getResource(path) != null) loads.add(CompletableFuture.runAsync(() -> getSound(path), executor));
+        }
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Decode every image and sound of the application, and wait till they are decoded.
+     *
+     * @throws UncheckedIOException If an asset could not be decoded.
+     */
+    public static void preload() {
+        try {
+            preloadAsync().join();
+        } catch (CompletionException exc) {
+            throw unwrap(exc);
+        }
+    }
+
+    /**
+     * Get the amount of decoded images and sounds.
+     *
+     * @return Amount of assets decoded so far, successfully.
+     */
+    public static int getLoadedCount() {
+        int count = 0;
+        for (CompletableFuture<?> future : ICONS.values()) if (future.isDone() && !future.isCompletedExceptionally()) count++;
+        for (CompletableFuture<?> future : SOUND_DATA.values()) if (future.isDone() && !future.isCompletedExceptionally()) count++;
+        return count;
+    }
+
+    /** Get the asset of {@code path} from {@code map}, decoding it on this thread if no other thread is. */
+    private static <T> T load(ConcurrentHashMap<String, CompletableFuture<T>> map, String path, Function<URL, T> decoder) {
+        CompletableFuture<T> future = map.get(path);
+        if (future == null) {
+            CompletableFuture<T> created = new CompletableFuture<>();
+            future = map.putIfAbsent(path, created);
+            if (future == null) {
+                future = created;
+                try {
+                    created.complete(decoder.apply(Objects.requireNonNull(Assets.class.getResource(path), path)));
+                } catch (RuntimeException exc) {
+                    created.completeExceptionally(exc);
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException exc) {
+            throw unwrap(exc);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException exc) {
+        return exc.getCause() instanceof RuntimeException cause ? cause : exc;
+    }
+
+    /** Decode an image on the calling thread. */
+    private static ImageIcon decodeImage(URL url) {
+        try {
+            return new ImageIcon(Objects.requireNonNull(ImageIO.read(url), url.toString()));
+        } catch (IOException exc) {
+            throw new UncheckedIOException("Could not decode image " + url, exc);
+        }
+    }
+
+    /** Decode a sound to PCM, on the calling thread. */
+    private static Sound decodeSound(URL url) {
+        try (AudioInputStream audio = ImaAdpcm.getAudioInputStream(url)) {
+            AudioFormat format = audio.getFormat();
+            if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED || format.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED)
+                return new Sound(format, audio.readAllBytes());
+            // Convert compressed sounds to signed PCM of the same rate and channels.
+            AudioFormat pcm = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm, audio)) {
+                return new Sound(pcm, converted.readAllBytes());
+            }
+        } catch (IOException | UnsupportedAudioFileException exc) {
+            throw new UncheckedIOException("Could not decode sound " + url,
+                    exc instanceof IOException io ? io : new IOException(exc));
+        }
+    }
+
+    private static synchronized Executor getExecutor() {
+        if (_executor == null) {
+            _executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+                Thread thread = new Thread(task, "nwarena-assets");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return _executor;
+    }
+
+}
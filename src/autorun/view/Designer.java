@@ -1,18 +1,15 @@
 package autorun.view;
 
 import autorun.controller.Controller;
+import autorun.controller.StartupMetrics;
 
-import javax.imageio.ImageIO;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
 import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.IOException;
-import java.util.Objects;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 /**
  * <h3> Designer - autorun. </h3>
@@ -25,24 +22,33 @@ import java.util.Objects;
 public class Designer {
 
     private static JFrame _autorun;
-    private static Clip _backgroundMusic;
-    private static Clip _soundEffect;
+    private static JButton _btnPlay;
+    private static JButton _btnExit;
+    private static MusicPlayer _backgroundMusic;
+    private static SoundEffects _soundEffects;
 
     /**
-     * Initialization for JFrame, background music and SFX.
+     * Initialization for JFrame. Its buttons are disabled till {@link #setInteractive(boolean) setInteractive}.
+     * <p> Open background music and SFX with the {@link #openAudio() openAudio} method. </p>
      * <p> Start music playback with the {@link #startBackgroundMusic() startBackgroundMusic} method. </p>
      * <p> Play SFX with the {@link #playSoundEffect() playSoundEffect} method. </p>
      */
-    public Designer() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        // New clips and open appropriate music file.
-        _soundEffect = AudioSystem.getClip();
-        _backgroundMusic = AudioSystem.getClip();
-        _soundEffect.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(getClass().getResource("/mus/mus_click.wav"))));
-        _backgroundMusic.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(getClass().getResource("/mus/mus_autorun.wav"))));
+    public Designer() {
         // Initialize JFrame.
         initializeFrame();
     }
 
+    /**
+     * Open the lines of background music and SFX.
+     *
+     * @throws LineUnavailableException If no line is available.
+     */
+    public static void openAudio() throws LineUnavailableException {
+        _soundEffects = SoundEffects.getShared();
+        _soundEffects.load("/mus/mus_click.wav");
+        _backgroundMusic = new MusicPlayer();
+    }
+
     /** Initialize JFrame and its components. */
     private static void initializeFrame() {
         // JFrame visual properties.
@@ -53,34 +59,43 @@ public class Designer {
         _autorun.setLocationRelativeTo(null);
         _autorun.setUndecorated(true);
         _autorun.setAlwaysOnTop(true);
+        // Measure time-to-first-frame.
+        _autorun.addWindowListener(new WindowAdapter() {
+            public void windowOpened(WindowEvent we) {
+                StartupMetrics.markFirstFrame();
+            }
+        });
 
         // Set JFrame icon and Background image.
         try {
-            _autorun.setIconImage(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/icon.png"))).getImage());
-            _autorun.setContentPane(new JLabel(new ImageIcon(ImageIO.read(Objects.requireNonNull(Designer.class.getResource("/img/img_autorun.png"))))));
-        } catch (IOException exc) {
+            _autorun.setIconImage(Assets.getImage("/icon.png"));
+            _autorun.setContentPane(new JLabel(Assets.getIcon("/img/img_autorun.png")));
+        } catch (RuntimeException exc) {
             showMessage("Autorun - Error", "Could not load image files.\nThe application will terminate.\n" + exc);
             Controller.exit();
         }
 
-        JButton btnPlay = new JButton("");
-        JButton btnExit = new JButton("");
+        JButton btnPlay = _btnPlay = new JButton("");
+        JButton btnExit = _btnExit = new JButton("");
+        // Disabled till every asset is decoded.
+        btnPlay.setEnabled(false);
+        btnExit.setEnabled(false);
 
         // Button - Play
         btnPlay.setName("btnPlay");
         btnPlay.setBorder(BorderFactory.createEmptyBorder());
         btnPlay.setBounds(30, 140, 178, 48);
-        btnPlay.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Play.png"))));
+        btnPlay.setIcon(Assets.getIcon("/img/buttons/Button_Play.png"));
         // Mouse Hover Event
         btnPlay.addMouseListener(new MouseAdapter() {
             // On enter.
             public void mouseEntered(MouseEvent me) {
-                btnPlay.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HPlay.png"))));
+                btnPlay.setIcon(Assets.getIcon("/img/buttons/Button_HPlay.png"));
             }
 
             // On exit.
             public void mouseExited(MouseEvent me) {
-                btnPlay.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_Play.png"))));
+                btnPlay.setIcon(Assets.getIcon("/img/buttons/Button_Play.png"));
             }
         });
         // On Click Event.
@@ -90,17 +105,17 @@ public class Designer {
         btnPlay.setName("btnExit");
         btnExit.setBounds(30, 200, 178, 48);
         btnExit.setBorder(BorderFactory.createEmptyBorder());
-        btnExit.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Exit.png"))));
+        btnExit.setIcon(Assets.getIcon("/img/buttons/Button_Exit.png"));
         // Mouse Hover Event.
         btnExit.addMouseListener(new MouseAdapter() {
             // On enter.
             public void mouseEntered(MouseEvent me) {
-                btnExit.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HExit.png"))));
+                btnExit.setIcon(Assets.getIcon("/img/buttons/Button_HExit.png"));
             }
 
             // On exit.
             public void mouseExited(MouseEvent me) {
-                btnExit.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_Exit.png"))));
+                btnExit.setIcon(Assets.getIcon("/img/buttons/Button_Exit.png"));
             }
         });
         // On Click Event.
@@ -114,18 +129,27 @@ public class Designer {
     public static void dispose() {
         _autorun.setVisible(false);
         _autorun.dispose();
+        _backgroundMusic.close();
     }
 
     /** Play SFX. */
     public static void playSoundEffect() {
-        // Don't forget to reset position.
-        _soundEffect.setMicrosecondPosition(0);
-        _soundEffect.start();
+        // Overlaps the effects still playing.
+        _soundEffects.play("/mus/mus_click.wav");
+    }
+
+    /**
+     * Enable or disable the buttons of JFrame.
+     *
+     * @param interactive  True, to enable the buttons.
+     */
+    public static void setInteractive(boolean interactive) {
+        _btnPlay.setEnabled(interactive);
+        _btnExit.setEnabled(interactive);
     }
 
-    /** Show JFrame. */
+    /** Show JFrame. Background music is started separately, once its clip is open. */
     public static void show() {
-        startBackgroundMusic();
         // JFrame pack and set Visible.
         _autorun.pack();
         _autorun.setVisible(true);
@@ -145,9 +169,8 @@ public class Designer {
 
     /** Start Background Music. */
     public static void startBackgroundMusic() {
-        // Don't forget to reset position.
-        _backgroundMusic.setMicrosecondPosition(0);
-        _backgroundMusic.start();
+        // Streamed and decoded on the music thread.
+        _backgroundMusic.play("/mus/mus_autorun.wav");
     }
 
     /** Stop Background Music. */
@@ -0,0 +1,302 @@
+package autorun.view;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.*;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * <h3> IMA ADPCM - autorun. </h3>
+ * Decoder and encoder of WAVE files compressed with IMA ADPCM (format tag {@value #FORMAT_TAG}), 4 bits per sample.
+ * <p>
+ *     Java Sound reads PCM WAVE files only. {@link #getAudioInputStream(URL)} opens IMA ADPCM files through this
+ *     class, and every other file through {@link AudioSystem}. The decoded stream is 16-bit signed PCM, decoded one
+ *     block at a time as it is read, so a streamed track never holds more than one block in memory.
+ * </p>
+ * <p>
+ *     A compressed file is a quarter of the size of its 16-bit PCM source. {@link #main(String[])} compresses a PCM
+ *     WAVE file, for the tracks of {@code resources/mus}.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class ImaAdpcm {
+
+    /** Format tag of IMA ADPCM, in the {@code fmt } chunk of a WAVE file. */
+    public static final int FORMAT_TAG = 0x0011;
+    /** Size of a block per channel, as written by {@link #encode}, in bytes. */
+    private static final int BLOCK_SIZE = 1024;
+    /** Bytes read to recognize a file. */
+    private static final int PROBE_SIZE = 22;
+
+    private static final int[] INDEX_TABLE = {-1, -1, -1, -1, 2, 4, 6, 8, -1, -1, -1, -1, 2, 4, 6, 8};
+    private static final int[] STEP_TABLE = {
+            7, 8, 9, 10, 11, 12, 13, 14, 16, 17, 19, 21, 23, 25, 28, 31, 34, 37, 41, 45, 50, 55, 60, 66, 73, 80, 88, 97,
+            107, 118, 130, 143, 157, 173, 190, 209, 230, 253, 279, 307, 337, 371, 408, 449, 494, 544, 598, 658, 724,
+            796, 876, 963, 1060, 1166, 1282, 1411, 1552, 1707, 1878, 2066, 2272, 2499, 2749, 3024, 3327, 3660, 4026,
+            4428, 4871, 5358, 5894, 6484, 7132, 7845, 8630, 9493, 10442, 11487, 12635, 13899, 15289, 16818, 18500,
+            20350, 22385, 24623, 27086, 29794, 32767
+    };
+
+    private ImaAdpcm() {
+    }
+
+    /**
+     * Open the sound of {@code url}, as PCM if it is IMA ADPCM, otherwise through {@link AudioSystem}.
+     *
+     * @param url  {@link URL} of the sound.
+     *
+     * @return The {@link AudioInputStream} of the sound. The caller closes it.
+     *
+     * @throws IOException If the sound could not be read.
+     * @throws UnsupportedAudioFileException If the format of the sound is not supported.
+     */
+    public static AudioInputStream getAudioInputStream(URL url) throws IOException, UnsupportedAudioFileException {
+        InputStream stream = new BufferedInputStream(url.openStream());
+        try {
+            return isImaAdpcm(stream) ? decode(stream) : AudioSystem.getAudioInputStream(stream);
+        } catch (IOException | UnsupportedAudioFileException | RuntimeException exc) {
+            stream.close();
+            throw exc;
+        }
+    }
+
+    /** Check if {@code stream} starts a WAVE file of IMA ADPCM, without consuming it. */
+    private static boolean isImaAdpcm(InputStream stream) throws IOException {
+        stream.mark(PROBE_SIZE);
+        byte[] probe = stream.readNBytes(PROBE_SIZE);
+        stream.reset();
+        if (probe.length < PROBE_SIZE) return false;
+        ByteBuffer header = ByteBuffer.wrap(probe).order(ByteOrder.LITTLE_ENDIAN);
+        return header.getInt(0) == chunkId("RIFF") && header.getInt(8) == chunkId("WAVE")
+                && header.getInt(12) == chunkId("fmt ") && (header.getShort(20) & 0xFFFF) == FORMAT_TAG;
+    }
+
+    /**
+     * Parse the chunks of a WAVE file of IMA ADPCM, up to its samples.
+     *
+     * @param stream  Stream positioned on the start of the file.
+     *
+     * @return A stream of the decoded samples.
+     */
+    private static AudioInputStream decode(InputStream stream) throws IOException, UnsupportedAudioFileException {
+        DataInputStream input = new DataInputStream(stream);
+        input.skipNBytes(12);
+        int channels = 0, sampleRate = 0, blockAlign = 0, samplesPerBlock = 0;
+        long frames = AudioSystem.NOT_SPECIFIED;
+        while (true) {
+            int id = Integer.reverseBytes(input.readInt()), size = Integer.reverseBytes(input.readInt());
+            if (id == chunkId("data")) break;
+            byte[] chunk = input.readNBytes(size + (size & 1));
+            if (chunk.length < size) throw new EOFException("Truncated WAVE chunk");
+            ByteBuffer buffer = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN);
+            if (id == chunkId("fmt ")) {
+                if (size < 20) throw new UnsupportedAudioFileException("Invalid IMA ADPCM format chunk");
+                channels = buffer.getShort(2);
+                sampleRate = buffer.getInt(4);
+                blockAlign = buffer.getShort(12) & 0xFFFF;
+                if (buffer.getShort(14) != 4) throw new UnsupportedAudioFileException("Unsupported IMA ADPCM sample size");
+                samplesPerBlock = buffer.getShort(18) & 0xFFFF;
+            } else if (id == chunkId("fact") && size >= 4) frames = buffer.getInt(0) & 0xFFFFFFFFL;
+        }
+        if (channels < 1 || channels > 2 || sampleRate <= 0 || blockAlign <= 4 * channels
+                || samplesPerBlock != (blockAlign - 4 * channels) * 2 / channels + 1)
+            throw new UnsupportedAudioFileException("Invalid IMA ADPCM format");
+        AudioFormat format = new AudioFormat(sampleRate, 16, channels, true, false);
+        return new AudioInputStream(new Decoder(input, channels, blockAlign, samplesPerBlock, frames), format, frames);
+    }
+
+    /** Stream of the 16-bit samples of IMA ADPCM blocks, decoded one block at a time. */
+    private static final class Decoder extends InputStream {
+
+        private final InputStream _source;
+        private final int _channels, _samplesPerBlock;
+        private final byte[] _block;
+        private final byte[] _pcm;
+        private long _framesLeft;
+        private int _position, _length;
+
+        private Decoder(InputStream source, int channels, int blockAlign, int samplesPerBlock, long frames) {
+            _source = source;
+            _channels = channels;
+            _samplesPerBlock = samplesPerBlock;
+            _block = new byte[blockAlign];
+            _pcm = new byte[samplesPerBlock * channels * 2];
+            _framesLeft = frames < 0 ? Long.MAX_VALUE : frames;
+        }
+
+        public int read() throws IOException {
+            if (_position == _length && !nextBlock()) return -1;
+            return _pcm[_position++] & 0xFF;
+        }
+
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) return 0;
+            if (_position == _length && !nextBlock()) return -1;
+            int count = Math.min(length, _length - _position);
+            System.arraycopy(_pcm, _position, buffer, offset, count);
+            _position += count;
+            return count;
+        }
+
+        public int available() {
+            return _length - _position;
+        }
+
+        public void close() throws IOException {
+            _source.close();
+        }
+
+        /** Decode the next block, or return false at the end of the samples. */
+        private boolean nextBlock() throws IOException {
+            if (_framesLeft == 0) return false;
+            int read = _source.readNBytes(_block, 0, _block.length);
+            // A last, short block still starts with the headers of every channel.
+            if (read <= 4 * _channels) return false;
+            int frames = (int) Math.min(_framesLeft, Math.min(_samplesPerBlock, (read - 4 * _channels) * 2 / _channels + 1));
+            for (int channel = 0; channel < _channels; channel++) {
+                int predictor = (short) ((_block[channel * 4] & 0xFF) | (_block[channel * 4 + 1] << 8));
+                int index = Math.min(88, Math.max(0, _block[channel * 4 + 2]));
+                putSample(0, channel, predictor);
+                // Samples follow in groups of 8 per channel: 4 bytes, low nibble first.
+                int offset = 4 * _channels + channel * 4, pcm = (_channels + channel) * 2;
+                for (int frame = 1; frame < frames; frame++) {
+                    int nibble = (frame & 1) != 0 ? _block[offset] & 0x0F : (_block[offset++] >> 4) & 0x0F;
+                    // Skip the groups of the other channels.
+                    if ((frame & 7) == 0) offset += 4 * (_channels - 1);
+                    predictor = decodeNibble(nibble, predictor, index);
+                    index = Math.min(88, Math.max(0, index + INDEX_TABLE[nibble]));
+                    _pcm[pcm] = (byte) predictor;
+                    _pcm[pcm + 1] = (byte) (predictor >> 8);
+                    pcm += _channels * 2;
+                }
+            }
+            _framesLeft -= frames;
+            _position = 0;
+            _length = frames * _channels * 2;
+            return true;
+        }
+
+        private void putSample(int frame, int channel, int sample) {
+            int offset = (frame * _channels + channel) * 2;
+            _pcm[offset] = (byte) sample;
+            _pcm[offset + 1] = (byte) (sample >> 8);
+        }
+
+    }
+
+    /**
+     * Compress a 16-bit PCM WAVE file with IMA ADPCM.
+     *
+     * @param args  The source file and target file path.
+     */
+    public static void main(String[] args) throws IOException, UnsupportedAudioFileException {
+        if (args.length != 2) {
+            System.err.println("Usage: ImaAdpcm <source.wav> <target.wav>");
+            System.exit(2);
+        }
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(Files.newInputStream(Path.of(args[0]))));
+             OutputStream target = new BufferedOutputStream(Files.newOutputStream(Path.of(args[1])))) {
+            encode(source, target);
+        }
+        System.out.printf("%s: %d -> %d bytes%n", args[1], Files.size(Path.of(args[0])), Files.size(Path.of(args[1])));
+    }
+
+    /**
+     * Compress {@code source} to a WAVE file of IMA ADPCM.
+     *
+     * @param source  Mono or stereo, 16-bit signed little-endian PCM of known length.
+     * @param target  Stream to write the WAVE file to. It is not closed.
+     *
+     * @throws IOException If {@code source} could not be read, or {@code target} could not be written.
+     * @throws UnsupportedAudioFileException If the format of {@code source} is not supported.
+     */
+    public static void encode(AudioInputStream source, OutputStream target) throws IOException, UnsupportedAudioFileException {
+        AudioFormat format = source.getFormat();
+        int channels = format.getChannels();
+        if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED || format.getSampleSizeInBits() != 16
+                || format.isBigEndian() || channels < 1 || channels > 2 || source.getFrameLength() < 0)
+            throw new UnsupportedAudioFileException("Source must be 16-bit little-endian PCM of known length");
+        byte[] data = source.readAllBytes();
+        int frames = data.length / (2 * channels);
+        ByteBuffer samples = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int blockAlign = BLOCK_SIZE * channels, samplesPerBlock = (blockAlign - 4 * channels) * 2 / channels + 1;
+        int blocks = (frames + samplesPerBlock - 1) / samplesPerBlock;
+        int sampleRate = (int) format.getSampleRate();
+
+        ByteBuffer header = ByteBuffer.allocate(60).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(chunkId("RIFF")).putInt(52 + blocks * blockAlign).putInt(chunkId("WAVE"));
+        header.putInt(chunkId("fmt ")).putInt(20).putShort((short) FORMAT_TAG).putShort((short) channels)
+                .putInt(sampleRate).putInt((int) ((long) sampleRate * blockAlign / samplesPerBlock))
+                .putShort((short) blockAlign).putShort((short) 4).putShort((short) 2).putShort((short) samplesPerBlock);
+        header.putInt(chunkId("fact")).putInt(4).putInt(frames);
+        header.putInt(chunkId("data")).putInt(blocks * blockAlign);
+        target.write(header.array());
+
+        int[] index = new int[channels];
+        byte[] block = new byte[blockAlign];
+        for (int first = 0; first < frames; first += samplesPerBlock) {
+            Arrays.fill(block, (byte) 0);
+            for (int channel = 0; channel < channels; channel++) {
+                int predictor = samples.getShort((first * channels + channel) * 2);
+                block[channel * 4] = (byte) predictor;
+                block[channel * 4 + 1] = (byte) (predictor >> 8);
+                block[channel * 4 + 2] = (byte) index[channel];
+                for (int frame = 1; frame < samplesPerBlock && first + frame < frames; frame++) {
+                    int sample = samples.getShort(((first + frame) * channels + channel) * 2);
+                    int nibble = encodeNibble(sample - predictor, STEP_TABLE[index[channel]]);
+                    predictor = decodeNibble(nibble, predictor, index[channel]);
+                    index[channel] = Math.min(88, Math.max(0, index[channel] + INDEX_TABLE[nibble]));
+                    int position = frame - 1;
+                    int offset = 4 * channels + (position / 8) * 4 * channels + channel * 4 + (position % 8) / 2;
+                    block[offset] |= (byte) ((position & 1) == 0 ? nibble : nibble << 4);
+                }
+            }
+            target.write(block);
+        }
+    }
+
+    /** Quantize {@code delta} to a nibble, for a step of {@code step}. */
+    private static int encodeNibble(int delta, int step) {
+        int nibble = 0;
+        if (delta < 0) {
+            nibble = 8;
+            delta = -delta;
+        }
+        if (delta >= step) {
+            nibble |= 4;
+            delta -= step;
+        }
+        if (delta >= step >> 1) {
+            nibble |= 2;
+            delta -= step >> 1;
+        }
+        if (delta >= step >> 2) nibble |= 1;
+        return nibble;
+    }
+
+    /** Apply {@code nibble} to {@code predictor}, for the step of {@code index}. */
+    private static int decodeNibble(int nibble, int predictor, int index) {
+        int step = STEP_TABLE[index];
+        int diff = step >> 3;
+        if ((nibble & 1) != 0) diff += step >> 2;
+        if ((nibble & 2) != 0) diff += step >> 1;
+        if ((nibble & 4) != 0) diff += step;
+        predictor += (nibble & 8) != 0 ? -diff : diff;
+        return Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, predictor));
+    }
+
+    private static int chunkId(String id) {
+        return (id.charAt(0)) | (id.charAt(1) << 8) | (id.charAt(2) << 16) | (id.charAt(3) << 24);
+    }
+
+}
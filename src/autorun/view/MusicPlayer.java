@@ -0,0 +1,237 @@
+package autorun.view;
+
+import javax.sound.sampled.*;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * <h3> Music Player - autorun. </h3>
+ * Streams music tracks to a {@link SourceDataLine}, from a background thread, with crossfades between tracks.
+ * <p>
+ *     A track is read from its resource in chunks of {@value #CHUNK_FRAMES} frames, mixed with the track it
+ *     replaces, and written to the line. Only a few chunks are held in memory, whatever the length of the track,
+ *     and {@link #play(String)} and {@link #stop()} never block on I/O: they post a request, which the player
+ *     thread picks up before its next chunk.
+ * </p>
+ * <p>
+ *     Starting a track fades it in over {@value #CROSSFADE} milliseconds, while the current track, if any, fades
+ *     out. A track is played once. Tracks are converted to {@link #FORMAT}, if their format differs, and tracks of
+ *     {@link ImaAdpcm} are decoded as they are streamed.
+ * </p>
+ *
+ * @implNote {@code MusicPlayer} is thread-safe. Only the player thread reads tracks and writes to the line.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class MusicPlayer implements Closeable {
+
+    /** Format of the line: 44.1 kHz, 16-bit, stereo, signed, little-endian PCM. */
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+    /** Length of a crossfade, in milliseconds. */
+    public static final int CROSSFADE = 750;
+    /** Frames read and written at a time. */
+    private static final int CHUNK_FRAMES = 2048;
+    private static final int FRAME_SIZE = FORMAT.getFrameSize();
+    private static final int CHUNK_SIZE = CHUNK_FRAMES * FRAME_SIZE;
+    private static final int CROSSFADE_FRAMES = (int) (FORMAT.getFrameRate() * CROSSFADE / 1000);
+
+    private final SourceDataLine _line;
+    private final Object _lock = new Object();
+    // Requests, guarded by _lock.
+    private String _request;
+    private boolean _stopRequest, _closed;
+    // State of the player thread.
+    private AudioInputStream _current, _previous;
+    private int _fadePosition;
+    private final byte[] _currentChunk = new byte[CHUNK_SIZE], _previousChunk = new byte[CHUNK_SIZE];
+    private final byte[] _mixChunk = new byte[CHUNK_SIZE];
+
+    /**
+     * Open the default line of {@link #FORMAT}, and start the player thread.
+     *
+     * @throws LineUnavailableException If the line is not available.
+     */
+    public MusicPlayer() throws LineUnavailableException {
+        this(AudioSystem.getSourceDataLine(FORMAT));
+    }
+
+    /**
+     * Open {@code line}, and start the player thread.
+     *
+     * @param line  Line of {@link #FORMAT}, which is closed with the player.
+     *
+     * @throws LineUnavailableException If the line could not be opened.
+     */
+    public MusicPlayer(SourceDataLine line) throws LineUnavailableException {
+        _line = line;
+        // Four chunks: about 190 ms of audio.
+        _line.open(FORMAT, CHUNK_SIZE * 4);
+        Thread thread = new Thread(this::run, "nwarena-music");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Crossfade from the current track to the track of {@code path}.
+     *
+     * @param path  Resource path of the track, such as {@code /mus/mus_battle1.wav}.
+     *
+     * @throws NullPointerException If there is no resource on {@code path}.
+     */
+    public void play(String path) {
+        Objects.requireNonNull(MusicPlayer.class.getResource(path), path);
+        synchronized (_lock) {
+            _request = path;
+            _stopRequest = false;
+            _lock.notifyAll();
+        }
+    }
+
+    /** Fade out the current track. */
+    public void stop() {
+        synchronized (_lock) {
+            _request = null;
+            _stopRequest = true;
+            _lock.notifyAll();
+        }
+    }
+
+    /** Stop the player thread, and close the tracks and the line. */
+    public void close() {
+        synchronized (_lock) {
+            _closed = true;
+            _lock.notifyAll();
+        }
+    }
+
+    /** Loop of the player thread: pick up requests, then mix and write the next chunk. */
+    private void run() {
+        try {
+            while (true) {
+                String request;
+                boolean stop;
+                synchronized (_lock) {
+                    // Idle till a request, if nothing is playing.
+                    while (!_closed && _request == null && !_stopRequest && _current == null && _previous == null) {
+                        _line.stop();
+                        _lock.wait();
+                    }
+                    if (_closed) break;
+                    request = _request;
+                    stop = _stopRequest;
+                    _request = null;
+                    _stopRequest = false;
+                }
+                if (request != null) startTrack(openTrack(request));
+                else if (stop) startTrack(null);
+                writeChunk();
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeTrack(_current);
+            closeTrack(_previous);
+            _line.stop();
+            _line.close();
+        }
+    }
+
+    /** Fade out the current track, and fade in {@code next}, which may be null. */
+    private void startTrack(AudioInputStream next) {
+        // A crossfade in progress is cut short: its outgoing track is dropped.
+        closeTrack(_previous);
+        _previous = _current;
+        _current = next;
+        _fadePosition = 0;
+    }
+
+    /** Mix the next chunk of the current and the previous track, and write it to the line. */
+    private void writeChunk() {
+        int currentFrames = readChunk(_current, _currentChunk);
+        if (currentFrames < 0) {
+            closeTrack(_current);
+            _current = null;
+            currentFrames = 0;
+        }
+        int previousFrames = readChunk(_previous, _previousChunk);
+        if (previousFrames < 0) {
+            closeTrack(_previous);
+            _previous = null;
+            previousFrames = 0;
+        }
+        int frames = Math.max(currentFrames, previousFrames);
+        if (frames == 0) return;
+        for (int frame = 0; frame < frames; frame++) {
+            // Gain of the incoming track, out of 1 << 16.
+            int gain = (int) Math.min(65536L, (long) (_fadePosition + frame) * 65536 / CROSSFADE_FRAMES);
+            for (int offset = frame * FRAME_SIZE; offset < (frame + 1) * FRAME_SIZE; offset += 2) {
+                int sample = 0;
+                if (frame < currentFrames) sample += (sampleAt(_currentChunk, offset) * gain) >> 16;
+                if (frame < previousFrames) sample += (sampleAt(_previousChunk, offset) * (65536 - gain)) >> 16;
+                sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+                _mixChunk[offset] = (byte) sample;
+                _mixChunk[offset + 1] = (byte) (sample >> 8);
+            }
+        }
+        _fadePosition = Math.min(CROSSFADE_FRAMES, _fadePosition + frames);
+        if (_fadePosition >= CROSSFADE_FRAMES && _previous != null) {
+            closeTrack(_previous);
+            _previous = null;
+        }
+        if (!_line.isRunning()) _line.start();
+        // Blocks till the line has room, which paces the thread.
+        _line.write(_mixChunk, 0, frames * FRAME_SIZE);
+    }
+
+    /**
+     * Read up to a chunk of {@code track} into {@code chunk}.
+     *
+     * @return Amount of frames read, 0 if {@code track} is null, or -1 at the end of {@code track}.
+     */
+    private static int readChunk(AudioInputStream track, byte[] chunk) {
+        if (track == null) return 0;
+        int length = 0;
+        try {
+            while (length < CHUNK_SIZE) {
+                int read = track.read(chunk, length, CHUNK_SIZE - length);
+                if (read < 0) break;
+                length += read;
+            }
+        } catch (IOException exc) {
+            System.err.println("[Music] Could not read track: " + exc);
+            return -1;
+        }
+        return length == 0 ? -1 : length / FRAME_SIZE;
+    }
+
+    /** Open the track of {@code path}, in {@link #FORMAT}, or null if it could not be opened. */
+    private static AudioInputStream openTrack(String path) {
+        URL url = MusicPlayer.class.getResource(path);
+        AudioInputStream track = null;
+        try {
+            track = ImaAdpcm.getAudioInputStream(Objects.requireNonNull(url, path));
+            return track.getFormat().matches(FORMAT) ? track : AudioSystem.getAudioInputStream(FORMAT, track);
+        } catch (IOException | UnsupportedAudioFileException | RuntimeException exc) {
+            closeTrack(track);
+            System.err.println("[Music] Could not open " + path + ": " + exc);
+            return null;
+        }
+    }
+
+    private static void closeTrack(AudioInputStream track) {
+        if (track == null) return;
+        try {
+            track.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static int sampleAt(byte[] chunk, int offset) {
+        return (short) ((chunk[offset] & 0xFF) | (chunk[offset + 1] << 8));
+    }
+
+}
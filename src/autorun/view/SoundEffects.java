@@ -0,0 +1,182 @@
+package autorun.view;
+
+import javax.sound.sampled.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h3> Sound Effects - autorun. </h3>
+ * Shared mixer of sound effects, which lets up to {@value #VOICES} effects play at the same time.
+ * <p>
+ *     Every effect is decoded once, through {@link Assets}, and converted to the samples of
+ *     {@link MusicPlayer#FORMAT}. {@link #play(String)} assigns the effect to a free voice, or to the oldest voice
+ *     if none is free, so rapid clicks overlap instead of cutting each other off. A mixer thread adds the active
+ *     voices together, in chunks of {@value #CHUNK_FRAMES} frames, and writes them to a single line.
+ * </p>
+ * <p>
+ *     The line holds two chunks, about 12 milliseconds of audio, which bounds the latency of an effect. The mixer
+ *     thread waits while no effect is playing.
+ * </p>
+ *
+ * @implNote {@code SoundEffects} is thread-safe. Playing an effect which was played or {@link #load loaded} before
+ * does not allocate.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class SoundEffects {
+
+    /** Amount of effects that may play at the same time. */
+    public static final int VOICES = 8;
+    /** Frames mixed and written at a time. */
+    private static final int CHUNK_FRAMES = 256;
+    private static final int CHANNELS = MusicPlayer.FORMAT.getChannels();
+    private static final int FRAME_SIZE = MusicPlayer.FORMAT.getFrameSize();
+
+    private static SoundEffects _shared;
+
+    private final SourceDataLine _line;
+    private final ConcurrentHashMap<String, short[]> _effects = new ConcurrentHashMap<>();
+    // Voices, guarded by _voiceSamples.
+    private final short[][] _voiceSamples = new short[VOICES][];
+    private final int[] _voicePositions = new int[VOICES];
+    private int _activeVoices;
+    // State of the mixer thread.
+    private final int[] _mix = new int[CHUNK_FRAMES * CHANNELS];
+    private final byte[] _chunk = new byte[CHUNK_FRAMES * FRAME_SIZE];
+
+    /**
+     * Open {@code line}, and start the mixer thread.
+     *
+     * @param line  Line of {@link MusicPlayer#FORMAT}.
+     *
+     * @throws LineUnavailableException If the line could not be opened.
+     */
+    public SoundEffects(SourceDataLine line) throws LineUnavailableException {
+        _line = line;
+        _line.open(MusicPlayer.FORMAT, _chunk.length * 2);
+        Thread thread = new Thread(this::run, "nwarena-sfx");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Get the mixer shared by the whole application, opening it on first use.
+     *
+     * @return The shared {@code SoundEffects}.
+     *
+     * @throws LineUnavailableException If the default line is not available.
+     */
+    public static synchronized SoundEffects getShared() throws LineUnavailableException {
+        if (_shared == null) _shared = new SoundEffects(AudioSystem.getSourceDataLine(MusicPlayer.FORMAT));
+        return _shared;
+    }
+
+    /**
+     * Decode and convert the effect of {@code path}, so its first {@link #play} doesn't.
+     *
+     * @param path  Resource path of the effect, such as {@code /mus/mus_click.wav}.
+     *
+     * @throws NullPointerException If there is no resource on {@code path}.
+     * @throws UncheckedIOException If the resource could not be decoded.
+     */
+    public void load(String path) {
+        _effects.computeIfAbsent(path, SoundEffects::decode);
+    }
+
+    /**
+     * Play the effect of {@code path}, on a free voice, or on the oldest voice if none is free.
+     *
+     * @param path  Resource path of the effect.
+     */
+    public void play(String path) {
+        short[] samples = _effects.computeIfAbsent(path, SoundEffects::decode);
+        synchronized (_voiceSamples) {
+            int voice = 0;
+            for (int cnt = 0; cnt < VOICES; cnt++) {
+                if (_voiceSamples[cnt] == null) {
+                    voice = cnt;
+                    break;
+                }
+                if (_voicePositions[cnt] > _voicePositions[voice]) voice = cnt;
+            }
+            if (_voiceSamples[voice] == null) _activeVoices++;
+            _voiceSamples[voice] = samples;
+            _voicePositions[voice] = 0;
+            _voiceSamples.notifyAll();
+        }
+    }
+
+    /** Loop of the mixer thread: mix the next chunk of the active voices and write it to the line. */
+    private void run() {
+        try {
+            while (true) {
+                int frames;
+                synchronized (_voiceSamples) {
+                    // Idle till an effect is played.
+                    while (_activeVoices == 0) {
+                        _line.stop();
+                        _voiceSamples.wait();
+                    }
+                    frames = mixChunk();
+                }
+                for (int cnt = 0; cnt < frames * CHANNELS; cnt++) {
+                    int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, _mix[cnt]));
+                    _chunk[cnt * 2] = (byte) sample;
+                    _chunk[cnt * 2 + 1] = (byte) (sample >> 8);
+                }
+                if (!_line.isRunning()) _line.start();
+                // Blocks till the line has room, which paces the thread.
+                _line.write(_chunk, 0, frames * FRAME_SIZE);
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Add the next chunk of every active voice to the mix, and free the voices that finish.
+     *
+     * @return Amount of frames of the mix.
+     */
+    private int mixChunk() {
+        int length = 0;
+        Arrays.fill(_mix, 0);
+        for (int voice = 0; voice < VOICES; voice++) {
+            short[] samples = _voiceSamples[voice];
+            if (samples == null) continue;
+            int position = _voicePositions[voice];
+            int count = Math.min(_mix.length, samples.length - position);
+            for (int cnt = 0; cnt < count; cnt++) _mix[cnt] += samples[position + cnt];
+            length = Math.max(length, count);
+            if (position + count >= samples.length) {
+                _voiceSamples[voice] = null;
+                _activeVoices--;
+            } else _voicePositions[voice] = position + count;
+        }
+        return length / CHANNELS;
+    }
+
+    /** Convert the decoded {@link Assets.Sound} of {@code path} to samples of {@link MusicPlayer#FORMAT}. */
+    private static short[] decode(String path) {
+        Assets.Sound sound = Assets.getSound(path);
+        AudioInputStream stream = new AudioInputStream(new ByteArrayInputStream(sound.data()), sound.format(),
+                sound.data().length / sound.format().getFrameSize());
+        try (AudioInputStream converted = sound.format().matches(MusicPlayer.FORMAT) ? stream
+                : AudioSystem.getAudioInputStream(MusicPlayer.FORMAT, stream)) {
+            byte[] data = converted.readAllBytes();
+            short[] samples = new short[data.length / 2];
+            ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+            return samples;
+        } catch (IOException exc) {
+            throw new UncheckedIOException("Could not convert sound " + path, exc);
+        }
+    }
+
+}
@@ -1,13 +1,28 @@
 package nwarena.controller;
 
 import nwarena.controller.round.*;
+import nwarena.engine.ArenaEngine;
+import nwarena.engine.replay.MatchRecording;
+import nwarena.engine.replay.MatchReplay;
+import nwarena.model.Cell;
+import nwarena.model.Character;
+import nwarena.model.Dice;
+import nwarena.model.combat.FightOutcome;
+import nwarena.model.event.CombatLog;
+import nwarena.model.event.EventType;
 import nwarena.model.toon.ClassType;
 import nwarena.model.Game;
+import nwarena.model.GameSnapshot;
+import nwarena.model.toon.Monster;
+import nwarena.model.toon.Player;
 import nwarena.view.*;
 import nwarena.view.gamegridbutton.*;
 import nwmain.controller.Controller;
 
-import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
 
 /**
  * <h3> Controller - nwarena. </h3>
@@ -20,11 +35,33 @@ import java.awt.*;
 public class ArenaController {
 
     private static boolean _roundActive = false;
+    private static boolean _fastResolve = false;
     private static Game _game;
     private static GameGridButton _clickedGridButton;
+    private static RoundController _round;
+    /** Recording of the match. Null, if the match was resumed from a snapshot and is not recorded. */
+    private static MatchRecording _recording;
+    /** Plays the actions of a replayed match. Null, unless a recording is replayed. */
+    private static javax.swing.Timer _replayTimer;
+    private static int _replayAction;
+    /** Resolves the fights started by Monsters, as a headless replay does. Null, if Monsters don't play. */
+    private static ArenaEngine _engine;
+    /** Blocks on which every Player and Monster was last shown, by slot. */
+    private static Cell[] _playerCells, _monsterCells;
+    /** Amount of events the {@link CombatLog} keeps, till rendered. */
+    private static final int COMBAT_LOG_CAPACITY = 1024;
+    /** Delay between two replayed actions, in milliseconds. */
+    private static final int REPLAY_DELAY = 500;
+    /** System property which overrides the directory of the recordings. */
+    private static final String RECORD_DIR_PROPERTY = "nwarena.recordDir";
+    /** System property which overrides the file of the autosave. */
+    private static final String AUTOSAVE_PROPERTY = "nwarena.autosaveFile";
+    /** Print the amount of blocks repainted per turn, if the {@code nwarena.profileRepaints} system property is true. */
+    private static final boolean PROFILE_REPAINTS = Boolean.getBoolean("nwarena.profileRepaints");
 
     /**
      * Initialize {@link nwarena.view.Designer View}, {@link nwarena.model.Game Model}  and start background music.
+     * {@link nwarena.model.toon.Monster Monsters} play through a {@link nwarena.model.MonsterAI MonsterAI}.
      *
      * @param monsterCount  Amount of monster on the {@link nwarena.model.Game}.
      * @param playerName1  Name of the first {@link nwarena.model.toon.Player Player}.
@@ -35,44 +72,99 @@ public class ArenaController {
      * @param playerClass3 {@link nwarena.model.toon.ClassType Class} of the third {@link nwarena.model.toon.Player Player}.
      * @param playerName4  Name of the fourth {@link nwarena.model.toon.Player Player}.
      * @param playerClass4  {@link nwarena.model.toon.ClassType Class} of the fourth {@link nwarena.model.toon.Player Player}.
+     * @param fastResolve  Resolve every round in one step, instead of attack by attack.
      */
     public ArenaController(int monsterCount, String playerName1, int playerClass1,
                            String playerName2, int playerClass2,
                            String playerName3, int playerClass3,
-                           String playerName4, int playerClass4) {
-        // New game. Add players and monsters.
-        _game = new Game();
-        _game.addPlayer(playerName1, ClassType.values()[playerClass1]);
-        _game.addPlayer(playerName2, ClassType.values()[playerClass2]);
-        _game.addPlayer(playerName3, ClassType.values()[playerClass3]);
-        _game.addPlayer(playerName4, ClassType.values()[playerClass4]);
-        for (int cnt = 0; cnt < monsterCount; cnt++) _game.addMonster();
-        // Initialize characters.
-        _game.initializeCharactersPosition();
+                           String playerName4, int playerClass4, boolean fastResolve) {
+        // New game, rolled from a master seed, so that it can be recorded and replayed.
+        MatchRecording recording = new MatchRecording(new Dice().nextLong(),
+                Game.DEFAULT_MAP_WIDTH, Game.DEFAULT_MAP_HEIGHT, monsterCount, fastResolve, true);
+        recording.addPlayer(playerName1, ClassType.values()[playerClass1]);
+        recording.addPlayer(playerName2, ClassType.values()[playerClass2]);
+        recording.addPlayer(playerName3, ClassType.values()[playerClass3]);
+        recording.addPlayer(playerName4, ClassType.values()[playerClass4]);
+        _replayTimer = null;
+        initialize(MatchReplay.newGame(recording), recording, fastResolve);
+    }
+
+    /**
+     * Initialize {@link nwarena.view.Designer View} and start background music, resuming a saved
+     * {@link nwarena.model.Game Model}. A resumed game is not recorded.
+     *
+     * @param game  {@link nwarena.model.Game Game} restored through {@link #loadAutosave()}.
+     * @param fastResolve  Resolve every round in one step, instead of attack by attack.
+     */
+    public ArenaController(Game game, boolean fastResolve) {
+        _replayTimer = null;
+        initialize(game, null, fastResolve);
+    }
+
+    /**
+     * Replay {@code recording} on {@link nwarena.view.Designer View}, in real time.
+     * <p>
+     *     A recorded action is played every {@value #REPLAY_DELAY} milliseconds, once the previous round is complete,
+     *     through the same handlers as a click. Clicks on the grid and on rest are ignored during the replay.
+     * </p>
+     *
+     * @param recording  {@link MatchRecording} to replay.
+     */
+    public static void replay(MatchRecording recording) {
+        _replayAction = 0;
+        _replayTimer = new javax.swing.Timer(REPLAY_DELAY, actionTimer -> replayNextAction());
+        initialize(MatchReplay.newGame(recording), recording, recording.getFastResolve());
+        _replayTimer.start();
+    }
+
+    /**
+     * Initialize {@link nwarena.view.Designer View} for {@code game}, and start background music.
+     *
+     * @param game  {@link nwarena.model.Game Game} with every {@link nwarena.model.Character Character} set on the map.
+     * @param recording  {@link MatchRecording} which holds the setup of the game. Actions are recorded on it, unless
+     *                   it is replayed. Null, if the game is not recorded.
+     * @param fastResolve  Resolve every round in one step, instead of attack by attack.
+     */
+    private static void initialize(Game game, MatchRecording recording, boolean fastResolve) {
+        _recording = recording;
+        _fastResolve = fastResolve;
+        _roundActive = false;
+        _round = null;
+        _game = game;
+        _game.setCombatLog(new CombatLog(COMBAT_LOG_CAPACITY));
+        // Monsters fight through the engine, so their fights are resolved as on a headless replay.
+        _engine = null;
+        if (_game.getMonsterAI() != null) {
+            _engine = new ArenaEngine(_game);
+            _engine.setFastResolve(fastResolve);
+        }
 
         // New view.
         try {
-            new Designer();
+            new Designer(_game.getMapWidth(), _game.getMapHeight());
         } catch (Exception exc) {
             nwarena.view.Designer.showMessage("Could not load music file.\nThe application will now terminate.\n" + exc, "NWMain - Error.");
             exit(58);
         }
-        // Set icons.
-        Designer.getGridButton(1, 1).setIcon(IconType.PLAYER1);
-        Designer.getGridButton(14, 1).setIcon(IconType.PLAYER2);
-        Designer.getGridButton(1, 11).setIcon(IconType.PLAYER3);
-        Designer.getGridButton(14, 11).setIcon(IconType.PLAYER4);
-
-        // Append Log and update GameGridButton (Players).
+        // Set icons and update GameGridButton (Players). Dead players of a resumed game are outside the map.
         for (int cnt = 0; cnt < 4; cnt++) {
+            if (_game.getPlayerList().get(cnt).getIsDead()) continue;
+            Designer.getGridButton(_game.getPlayerList().get(cnt).getCoordinates().x,
+                    _game.getPlayerList().get(cnt).getCoordinates().y).setIcon(IconType.values()[cnt]);
             Designer.getGridButton(_game.getPlayerList().get(cnt).getCoordinates().x,
                     _game.getPlayerList().get(cnt).getCoordinates().y).HasPlayer = true;
         }
         // Update GameGridButton (Monsters).
-        for (int cnt = 0; cnt < monsterCount; cnt++) {
-            Designer.getGridButton(_game.getMonsterList().get(cnt).getCoordinates().x,
-                    _game.getMonsterList().get(cnt).getCoordinates().y).HasMonster = true;
+        for (Monster monster : _game.getMonsterList()) {
+            if (monster.getIsDead()) continue;
+            Designer.getGridButton(monster.getCoordinates().x, monster.getCoordinates().y).HasMonster = true;
         }
+        // Blocks shown, till each character moves or dies.
+        _playerCells = new Cell[_game.getPlayerList().size()];
+        for (Player player : _game.getPlayerList()) _playerCells[player.getIndex()] = shownCell(player);
+        _monsterCells = new Cell[_game.getMonsterList().size()];
+        for (int cnt = 0; cnt < _monsterCells.length; cnt++)
+            _monsterCells[cnt] = shownCell(_game.getMonsterList().get(cnt));
         Designer.appendLogText("[Game] You have entered a PvP area!");
 
         // Show Designer and play background music.
@@ -89,13 +181,29 @@ public class ArenaController {
 
     /** Start a new round. */
     private static void newRound() {
-        // Get next available, alive player.
+        // Save the game before the next turn.
+        if (_game.getAlivePlayers() > 1) autosave();
+        // Get next available, alive player. Monsters play before the first player of each round.
         _game.nextPlayer();
+        // Show the moves of the previous player and the monsters, before the highlight and the win check.
+        syncGrid();
+        renderCombatLog();
+        // Clear the prediction of the previous player.
+        Designer.setWinChance("");
         // Check if there is one remaining player.
         if (_game.getAlivePlayers() == 1) {
+            Designer.clearHighlight();
             // Set player status on VIEW.
             setPlayerStats(_game.getCurrentPlayer().getIndex());
             Designer.appendLogText("\n[Game] " + _game.getCurrentPlayer().getName() + " won the Epic Arena!");
+            // Save the finished match, unless it is replayed, and drop the autosave.
+            if (_replayTimer == null) {
+                if (_recording != null) {
+                    _recording.setResult(_game.getCurrentPlayer().getIndex(), _recording.getActionCount());
+                    saveRecording();
+                }
+                deleteAutosave();
+            }
             // Set appropriate background music.
             Designer.setVisible(true);
             try {
@@ -107,9 +215,12 @@ public class ArenaController {
             return;
         }
         // The player is currently sitting on a GameGridButton.
-        // Set state on the surrounding GameGridButtons (states).
-        Designer.getGridButton(_game.getCurrentPlayer().getCoordinates().x, _game.getCurrentPlayer().getCoordinates().y).
-                setSurroundState(false);
+        // Move the highlight to the surrounding GameGridButtons, changing only the blocks that differ.
+        Designer.setHighlight(Designer.getGridButton(_game.getCurrentPlayer().getCoordinates().x,
+                _game.getCurrentPlayer().getCoordinates().y), ArenaEngine.MOVE_RANGE);
+        // Blocks repainted by the previous turn and this highlight.
+        int repaints = Designer.takeRepaintCount();
+        if (PROFILE_REPAINTS) System.out.println("[Profile] Turn repainted " + repaints + " blocks.");
         // Set player status on VIEW.
         setPlayerStats(_game.getCurrentPlayer().getIndex());
     }
@@ -119,6 +230,11 @@ public class ArenaController {
      * <p> Exit application. </p>
      */
     public static void exitOnClick() {
+        // Stop the active round and replay, if any.
+        if (_round != null) _round.cancel();
+        if (_replayTimer != null) _replayTimer.stop();
+        // Save the unfinished match.
+        else if (_recording != null && _recording.getWinner() < 0 && _recording.getActionCount() > 0) saveRecording();
         // Stop background music and play click SFX.
         Designer.stopBackgroundMusic();
         Designer.playSoundEffect();
@@ -142,15 +258,29 @@ public class ArenaController {
      *         <li>Initiates new round between a {@link nwarena.model.toon.Player Player} and a {@link nwarena.model.toon.Monster Monster}.</li>
      *         <li>Initiates new round between two {@link nwarena.model.toon.Player Players}.</li>
      *     </ul>
+     *     Every action is recorded. Clicks are ignored while a recording is replayed.
      * </p>
      *
      * @param grdButton Clicked {@link GameGridButton GameGridButton}.
      **/
     public static void gridButtonOnClick(GameGridButton grdButton) {
-        if (_roundActive) return;
+        if (_replayTimer != null) return;
+        play(grdButton);
+    }
+
+    /**
+     * Play the action of the current {@link nwarena.model.toon.Player Player} on {@code grdButton}.
+     *
+     * @param grdButton  {@link GameGridButton GameGridButton} of the action.
+     *
+     * @return False, if {@code grdButton} holds no action.
+     */
+    private static boolean play(GameGridButton grdButton) {
+        if (_roundActive) return false;
         _clickedGridButton = grdButton;
         // Current Player clicked on a free block.
         if (grdButton.getState() == State.FREEBLOCK && !grdButton.HasMonster) {
+            record(MatchRecording.Action.MOVE, grdButton.getCoordinates());
             // Round is active.
             _roundActive = true;
             onRoundComplete();
@@ -160,10 +290,16 @@ public class ArenaController {
             // Try statements and Listener on both conditions as a workaround for no OnClick event validation.
             // Player clicked on a monster occupied GameGridButton.
             if (grdButton.getState() == State.FREEBLOCK && grdButton.HasMonster) {
+                record(MatchRecording.Action.ATTACK, grdButton.getCoordinates());
                 // Round is active.
                 _roundActive = true;
+                // Fast resolve - monster as attacker, current player as defender.
+                if (_fastResolve) {
+                    resolveRound(_game.getMonsterOnCoordinates(grdButton.getCoordinates()), _game.getCurrentPlayer());
+                    return true;
+                }
                 // New round controller listener.
-                RoundControllerListener threadListener = new RoundControllerListener();
+                RoundControllerListener roundListener = new RoundControllerListener();
                 // Change music to battle.
                 try {
                     Designer.startBattleMusic();
@@ -172,17 +308,24 @@ public class ArenaController {
                     exit(172);
                 }
                 // New round - monster as attacker, current player as defender.
-                new RoundController(_game,
+                _round = new RoundController(_game,
                         _game.getMonsterOnCoordinates(grdButton.getCoordinates()),
                         _game.getCurrentPlayer(),
-                        threadListener).start();
+                        roundListener);
+                _round.start();
             }
             // Player clicked on a Player occupied GameGridButton.
             else if (grdButton.getState() == State.ATTACKBLOCK && grdButton.HasPlayer) {
+                record(MatchRecording.Action.ATTACK, grdButton.getCoordinates());
                 // Round is active.
                 _roundActive = true;
+                // Fast resolve - current player as attacker, player as defender.
+                if (_fastResolve) {
+                    resolveRound(_game.getCurrentPlayer(), _game.getPlayerOnCoordinates(grdButton.getCoordinates()));
+                    return true;
+                }
                 // New round controller listener.
-                RoundControllerListener threadListener = new RoundControllerListener();
+                RoundControllerListener roundListener = new RoundControllerListener();
                 // Change music to battle.
                 try {
                     Designer.startBattleMusic();
@@ -191,52 +334,84 @@ public class ArenaController {
                     exit(191);
                 }
                 // New round - current player as attacker, player as defender.
-                new RoundController(_game,
+                _round = new RoundController(_game,
                         _game.getCurrentPlayer(),
                         _game.getPlayerOnCoordinates(grdButton.getCoordinates()),
-                        threadListener).start();
+                        roundListener);
+                _round.start();
             }
+            else return false;
         }
+        return true;
+    }
+
+    /**
+     * <u>{@link GameGridButton}</u> Mouse Hover Event Listener:
+     * <p>
+     *     Show the predicted win chance of the current {@link nwarena.model.toon.Player Player}, and its expected
+     *     remaining HP, if {@code grdButton} holds an enemy it can fight.
+     * </p>
+     *
+     * @param grdButton  Hovered {@link GameGridButton GameGridButton}.
+     */
+    public static void gridButtonOnHover(GameGridButton grdButton) {
+        if (_roundActive || _game.getCurrentPlayer() == null) return;
+        double winChance, health;
+        // Against a monster, the monster attacks first.
+        if (grdButton.getState() == State.FREEBLOCK && grdButton.HasMonster) {
+            Monster monster = _game.getMonsterOnCoordinates(grdButton.getCoordinates());
+            if (monster == null || monster.getIsDead()) return;
+            FightOutcome outcome = _game.predictFight(monster, _game.getCurrentPlayer());
+            winChance = outcome.getDefenderWinChance();
+            health = outcome.getExpectedDefenderHealth();
+        } else if (grdButton.getState() == State.ATTACKBLOCK && grdButton.HasPlayer) {
+            Player player = _game.getPlayerOnCoordinates(grdButton.getCoordinates());
+            if (player == null) return;
+            FightOutcome outcome = _game.predictFight(_game.getCurrentPlayer(), player);
+            winChance = outcome.getAttackerWinChance();
+            health = outcome.getExpectedAttackerHealth();
+        } else return;
+        Designer.setWinChance(String.format("%.1f%% (~%.0f HP left)", winChance * 100, health));
+    }
+
+    /**
+     * Resolve a round in one step, through {@link Game#resolveFight}.
+     *
+     * @param attacker  The {@link Character} who initiated the round.
+     * @param defender  The {@link Character} who gets attacked.
+     */
+    private static void resolveRound(Character attacker, Character defender) {
+        _game.resolveFight(attacker, defender);
+        onRoundComplete();
     }
 
     /** Handles the end of a round.
      * <p>
-     *      Checks which {@link nwarena.model.Character Character} is dead and alters the appropriate
-     *      {@link GameGridButton}.
+     *      Checks which {@link nwarena.model.Character Character} is dead and moves it on the model. The
+     *      {@link GameGridButton GameGridButtons} follow the model on {@link #newRound()}.
      * </p>
      */
     public static void onRoundComplete() {
-        // Current Player is sitting in a GameGridButton.
-        // Reset surrounding GameGridButtons.
-        Designer.getGridButton(_game.getCurrentPlayer().getCoordinates().x, _game.getCurrentPlayer().getCoordinates().y).
-                setSurroundState(true);
+        // Render the events of the round, before anything else is logged.
+        renderCombatLog();
+        // The highlight of the current Player is kept, and diffed against the next Player's on newRound.
         // If round is active.
         if (_roundActive) {
-            // On Current Player's GameGridButton.
-            // Clear image.
-            Designer.getGridButton(_game.getCurrentPlayer().getCoordinates().x, _game.getCurrentPlayer().getCoordinates().y).
-                    setIcon(IconType.EMPTY);
-            // Set HasPlayer property to false.
-            Designer.getGridButton(_game.getCurrentPlayer().getCoordinates().x, _game.getCurrentPlayer().getCoordinates().y).
-                    HasPlayer = false;
             // If current player is still alive.
             if (_game.getCurrentPlayer().getHealth() > 0) {
                 // On Current Player's clicked GameGridButton.
                 // Move dead character outside the map (only if character is player).
                 if (_clickedGridButton.HasPlayer)
-                    _game.movePlayer(_game.getPlayerOnCoordinates(_clickedGridButton.getCoordinates()).getIndex(), new Point(-1, -1));
-                // Set Image, HasMonster and HasPlayer properties.
-                _clickedGridButton.setIcon(IconType.values()[_game.getCurrentPlayer().getIndex()]);
-                _clickedGridButton.HasMonster = false;
-                _clickedGridButton.HasPlayer = true;
+                    _game.movePlayer(_game.getPlayerOnCoordinates(_clickedGridButton.getCoordinates()).getIndex(), Cell.OFF_MAP);
                 // Move current player to new GameGridButton.
                 _game.moveCurrentPlayer(_clickedGridButton.getCoordinates());
             } else {
                 // Current player is dead. Move current player outside the map.
-                _game.moveCurrentPlayer(new Point(-1, -1));
+                _game.moveCurrentPlayer(Cell.OFF_MAP);
             }
             // Round is finished.
             _roundActive = false;
+            _round = null;
         }
         newRound();
     }
@@ -246,12 +421,189 @@ public class ArenaController {
      * <p> Rest current {@link nwarena.model.toon.Player Player} and end turn. </p>
      */
     public static void restOnClick() {
+        if (_replayTimer != null) return;
+        if (!rest()) Designer.appendLogText("You don't need to rest right now.");
+    }
+
+    /**
+     * Rest current {@link nwarena.model.toon.Player Player} and end turn.
+     *
+     * @return False, if a round is active or the {@link nwarena.model.toon.Player Player} doesn't need to rest.
+     */
+    private static boolean rest() {
         // Do not allow rest while round is active.
+        if (_roundActive || !_game.restCurrentPlayer()) return false;
+        record(MatchRecording.Action.REST, null);
+        onRoundComplete();
+        return true;
+    }
+
+    /**
+     * Record an action of the current {@link nwarena.model.toon.Player Player}, unless a recording is replayed.
+     *
+     * @param action  The {@link MatchRecording.Action Action}.
+     * @param cell  Coordinates of the action. Null for a rest.
+     */
+    private static void record(MatchRecording.Action action, Cell cell) {
+        if (_replayTimer == null && _recording != null) _recording.record(action, cell);
+    }
+
+    /** Play the next action of the replayed recording, once the previous round is complete. */
+    private static void replayNextAction() {
         if (_roundActive) return;
-        if (_game.restCurrentPlayer())
-            onRoundComplete();
-        else
-            Designer.appendLogText("You don't need to rest right now.");
+        if (_replayAction == _recording.getActionCount() || _game.getAlivePlayers() <= 1) {
+            _replayTimer.stop();
+            Designer.appendLogText("[Replay] End of recording.");
+            return;
+        }
+        Cell cell = _recording.getCell(_replayAction);
+        boolean played = switch (_recording.getAction(_replayAction)) {
+            case REST -> rest();
+            case MOVE, ATTACK -> play(Designer.getGridButton(cell.x, cell.y));
+        };
+        if (!played) {
+            _replayTimer.stop();
+            Designer.appendLogText("[Replay] Diverged from the recording on action " + _replayAction + ".");
+            return;
+        }
+        _replayAction++;
+    }
+
+    /**
+     * Save the recording of the match, in the directory set by the {@value #RECORD_DIR_PROPERTY} system property,
+     * or in {@code .nwarena/recordings} under the home directory of the user.
+     */
+    private static void saveRecording() {
+        String directory = System.getProperty(RECORD_DIR_PROPERTY,
+                Path.of(System.getProperty("user.home"), ".nwarena", "recordings").toString());
+        try {
+            Path file = _recording.save(Path.of(directory));
+            Designer.appendLogText("[Game] Match recorded to " + file);
+        } catch (IOException exc) {
+            Designer.appendLogText("[Game] Could not record the match: " + exc.getMessage());
+        }
+    }
+
+    /**
+     * Load the game saved by the last autosave.
+     *
+     * @return The restored {@link nwarena.model.Game Game}, or null if there is no autosave, or it could not be read.
+     */
+    public static Game loadAutosave() {
+        Path file = getAutosaveFile();
+        if (!Files.exists(file)) return null;
+        try {
+            return GameSnapshot.load(file);
+        } catch (IOException | RuntimeException exc) {
+            return null;
+        }
+    }
+
+    /** Save the game to the autosave file, unless a recording is replayed. */
+    private static void autosave() {
+        if (_replayTimer != null) return;
+        try {
+            GameSnapshot.save(_game, getAutosaveFile());
+        } catch (IOException exc) {
+            Designer.appendLogText("[Game] Could not autosave: " + exc.getMessage());
+        }
+    }
+
+    /** Delete the autosave file, once the game is over. */
+    private static void deleteAutosave() {
+        try {
+            Files.deleteIfExists(getAutosaveFile());
+        } catch (IOException exc) {
+            Designer.appendLogText("[Game] Could not delete the autosave: " + exc.getMessage());
+        }
+    }
+
+    /**
+     * Get the autosave file, set by the {@value #AUTOSAVE_PROPERTY} system property, or {@code .nwarena/autosave.nws}
+     * under the home directory of the user.
+     */
+    private static Path getAutosaveFile() {
+        String file = System.getProperty(AUTOSAVE_PROPERTY);
+        if (file != null) return Path.of(file);
+        return Path.of(System.getProperty("user.home"), ".nwarena", "autosave.nws");
+    }
+
+    /**
+     * Render every pending event of the {@link CombatLog} on {@link nwarena.view.Designer View}, in one batch.
+     * <p>
+     *     Swings, kills and Class advantages are appended to the log text. The stats of the last
+     *     {@link nwarena.model.toon.Player Player} who swung are shown.
+     * </p>
+     */
+    public static void renderCombatLog() {
+        CombatLog combatLog = _game.getCombatLog();
+        if (combatLog == null || combatLog.size() == 0) return;
+        StringBuilder text = new StringBuilder();
+        int[] lastPlayer = {-1};
+        combatLog.drain((type, actor, target, value) -> {
+            String actorName = _game.getCharacter(actor).getName();
+            switch (type) {
+                case ADVANTAGE -> text.append(actorName).append(", holds a Class advantage against ")
+                        .append(_game.getCharacter(target).getName()).append('\n');
+                case ATTACK, CRIT -> text.append(actorName).append(" attacked ").append(_game.getCharacter(target).getName())
+                        .append(" - Damage dealt: ").append(value).append(type == EventType.CRIT ? " (Critical hit)\n" : "\n");
+                case MISS -> text.append(actorName).append(" tried to hit ")
+                        .append(_game.getCharacter(target).getName()).append('\n');
+                case KILL -> text.append(actorName).append(" killed ")
+                        .append(_game.getCharacter(target).getName()).append("!\n");
+                // Moves and rests are shown on the grid and the stats.
+                case MOVE, REST -> {
+                }
+            }
+            if ((type == EventType.ATTACK || type == EventType.CRIT || type == EventType.MISS) && !CombatLog.isMonster(actor))
+                lastPlayer[0] = CombatLog.slotOf(actor);
+        }, COMBAT_LOG_CAPACITY);
+        if (!text.isEmpty()) Designer.appendLogText(text.substring(0, text.length() - 1));
+        // Set attacking player stats on Designer.
+        if (lastPlayer[0] >= 0) setPlayerStats(lastPlayer[0]);
+    }
+
+    /**
+     * Show on the grid every {@link nwarena.model.Character Character} which moved or died since the last call, as
+     * the model holds it.
+     * <p>
+     *     The current {@link Player} moves at the end of its round, and {@link Monster Monsters} move and fight during
+     *     {@link Game#nextPlayer()}, through their {@link nwarena.model.MonsterAI MonsterAI}. The block each
+     *     {@link nwarena.model.Character Character} was last shown on, and the block it stands on, are rebuilt from
+     *     the model, so the grid doesn't depend on the {@link CombatLog}, which drops events once full. A
+     *     {@link Monster} is shown once it moves.
+     * </p>
+     */
+    private static void syncGrid() {
+        for (Player player : _game.getPlayerList()) syncBlocks(_playerCells, player.getIndex(), player);
+        for (int cnt = 0; cnt < _monsterCells.length; cnt++)
+            syncBlocks(_monsterCells, cnt, _game.getMonsterList().get(cnt));
+    }
+
+    /** Rebuild the previous and the current block of the character on {@code slot}, if it moved or died. */
+    private static void syncBlocks(Cell[] cells, int slot, Character character) {
+        Cell previous = cells[slot], cell = shownCell(character);
+        if (Objects.equals(previous, cell)) return;
+        cells[slot] = cell;
+        showBlock(previous);
+        showBlock(cell);
+    }
+
+    /** Get the block {@code character} is shown on. Dead characters are not shown, even if left on their block. */
+    private static Cell shownCell(Character character) {
+        return character.getIsDead() ? Cell.OFF_MAP : character.getCoordinates();
+    }
+
+    /** Set the icon, HasPlayer and HasMonster of the {@link GameGridButton} of {@code cell}, from its occupant. */
+    private static void showBlock(Cell cell) {
+        if (cell == null || cell.x < 1 || cell.y < 1) return;
+        GameGridButton grdButton = Designer.getGridButton(cell.x, cell.y);
+        Player player = _game.getPlayerOnCoordinates(cell);
+        Monster monster = _game.getMonsterOnCoordinates(cell);
+        grdButton.HasPlayer = player != null;
+        grdButton.HasMonster = monster != null && !monster.getIsDead();
+        if (player != null) grdButton.setIcon(IconType.values()[player.getIndex()]);
+        else grdButton.setIcon(grdButton.HasMonster ? IconType.MONSTER : IconType.EMPTY);
     }
 
     /**
@@ -1,22 +1,36 @@
 package nwarena.controller.round;
 
-import nwarena.controller.ArenaController;
 import nwarena.model.Character;
 import nwarena.model.Game;
 
+import java.util.concurrent.ScheduledFuture;
+
 /**
- * <h3> Thread - nwarena - Round. </h3>
- * Runs a game round on a different thread.
+ * <h3> Round - nwarena - Round. </h3>
+ * Runs a game round, one Attack Round per step, paced by the {@link RoundScheduler}.
+ * <p>
+ *     Every step runs on the Event Dispatch Thread, so the {@link Game} is only touched from it. Between steps, no
+ *     thread is held. The round doesn't write to the {@link nwarena.view.Designer View}: every swing is published
+ *     by the {@link Game} to its {@link nwarena.model.event.CombatLog CombatLog}, which the View renders.
+ * </p>
  *
  * @author  Peter Mavrofrydis
  * @version 1.1
  * @since   29/07/2022
  */
-public class RoundController extends Thread {
+public class RoundController {
+
+    /** Delay between two Attack Rounds, in milliseconds. */
+    private static final long SWING_DELAY = 1000;
 
-    private static RoundControllerListener _listener;
+    private final RoundControllerListener _listener;
     private final Character _attacker, _defender;
     private final Game _game;
+    // During round: OFFENDER swings, TARGET gets attacked. They swap after every set of Attack Rounds.
+    private Character _offender, _target;
+    private int _attackCnt = 0;
+    private volatile boolean _cancelled = false;
+    private ScheduledFuture<?> _nextStep;
 
     /**
      * Initializes a new Round.
@@ -24,66 +38,61 @@ public class RoundController extends Thread {
      * @param game  Current {@link nwarena.model.Game Game}
      * @param attacker  The {@link nwarena.model.Character Character} who initiated the round.
      * @param defender  The {@link nwarena.model.Character Character} who gets attacked.
-     * @param listener  The {@link RoundControllerListener event listener} for this thread.
+     * @param listener  The {@link RoundControllerListener event listener} for this round.
      */
     public RoundController(Game game, Character attacker, Character defender, RoundControllerListener listener) {
         _game = game;
         _attacker = attacker;
         _defender = defender;
         _listener = listener;
+        _offender = attacker;
+        _target = defender;
     }
 
-    /** Starts thread.<p>Run game round.</p> */
-    public void run() {
-        // Will be swapping between attacker and defender.
-        boolean swap = false;
-        Character[] characters = new Character[2];
-        // Inform of potential attack bonuses.
-        if (_attacker.getPreferredClass()[0] == _defender.Class || _attacker.getPreferredClass()[1] == _defender.Class)
-            nwarena.view.Designer.appendLogText(_attacker.getName() + ", holds a Class advantage against " + _defender.getName());
-        else if (_defender.getPreferredClass()[0] == _attacker.Class || _defender.getPreferredClass()[1] == _attacker.Class)
-            nwarena.view.Designer.appendLogText(_defender.getName() + ", holds a Class advantage against " + _attacker.getName());
-        // Repeat till ATTACKER or DEFENDER is dead.
-        // During round: ATTACKER is always [0], DEFENDER is always [1].
-        do {
-            if (swap) {
-                characters[0] = _defender;
-                characters[1] = _attacker;
-            } else {
-                characters[0] = _attacker;
-                characters[1] = _defender;
-            }
-            // Set attacking player stats on Designer.
-            ArenaController.setPlayerStats(characters[0].getIndex());
-            // AB Rounds dedicate how many attacks will take place.
-            for (int attackCnt = 0; attackCnt < characters[0].getAttackRounds(); attackCnt++) {
-                // Attack round, between ATTACKER and DEFENDER.
-                int damageDealt = _game.attackRound(characters[0], characters[1]);
-                // Append text accordingly.
-                if (damageDealt <= 0)
-                    nwarena.view.Designer.appendLogText(characters[0].getName() + " tried to hit " + characters[1].getName());
-                else
-                    nwarena.view.Designer.appendLogText(characters[0].getName() + " attacked " + characters[1].getName() +
-                            " - Damage dealt: " + damageDealt);
-                // Wait 1 second.
-                try {
-                    sleep(1000);
-                } catch (InterruptedException exc) {
-                    // Signal thread error.
-                    _listener.threadException();
-                    nwarena.view.Designer.showMessage("RoundController", exc.getMessage());
+    /**
+     * Start the round.
+     *
+     * @implNote Should be called on the Event Dispatch Thread.
+     */
+    public void start() {
+        _game.startFight(_attacker, _defender);
+        step();
+    }
+
+    /** Stop the round. Steps which have not run yet are dropped. */
+    public void cancel() {
+        _cancelled = true;
+        if (_nextStep != null) _nextStep.cancel(false);
+    }
+
+    /** Run the next Attack Round, or end the round if the TARGET is dead. */
+    private void step() {
+        if (_cancelled) return;
+        try {
+            // Set of Attack Rounds is complete.
+            if (_attackCnt == _offender.getAttackRounds()) {
+                // Check if TARGET is dead. If not, swap OFFENDER and TARGET.
+                if (_target.getIsDead()) {
+                    _game.endFight(_offender, _target);
+                    // Signal round complete.
+                    _listener.roundComplete();
+                    return;
                 }
+                Character swap = _offender;
+                _offender = _target;
+                _target = swap;
+                _attackCnt = 0;
             }
-            // Check if DEFENDER is dead.
-            // If not, swap ATTACKER and DEFENDER.
-            if (characters[1].getIsDead()) break;
-            else swap = !swap;
-        } while (!characters[1].getIsDead());
-        // Append text accordingly.
-        nwarena.view.Designer.appendLogText(characters[0].getName() + " killed " + characters[1].getName() + "!");
-        // Signal thread complete.
-        _listener.threadComplete();
+            // Attack round, between OFFENDER and TARGET.
+            _game.attackRound(_offender, _target);
+            _attackCnt++;
+            // Next step in 1 second.
+            _nextStep = RoundScheduler.scheduleOnEDT(this::step, SWING_DELAY);
+        } catch (RuntimeException exc) {
+            // Signal round error.
+            nwarena.view.Designer.showMessage("RoundController", String.valueOf(exc));
+            _listener.roundException();
+        }
     }
 
 }
-
@@ -2,7 +2,7 @@ package nwarena.controller.round;
 
 import nwarena.controller.ArenaController;
 /**
- * <h3> Thread Listener - nwarena - Round. </h3>
+ * <h3> Round Listener - nwarena - Round. </h3>
  * Provides Event Handlers for {@link RoundController}.
  *
  * @author  Peter Mavrofrydis
@@ -12,11 +12,11 @@ import nwarena.controller.ArenaController;
 public class RoundControllerListener {
 
     /**
-     * <u>Thread</u> Event Listener:
+     * <u>Round</u> Event Listener:
      * <p> Change background music. </p>
      * <p> Signal the end of Round on {@link nwarena.controller.ArenaController Controller}. </p>
      **/
-    protected void threadComplete() {
+    protected void roundComplete() {
         // Change music.
         try {
             nwarena.view.Designer.startBackgroundMusic(false);
@@ -29,10 +29,10 @@ public class RoundControllerListener {
     }
 
     /**
-     * <u>Thread</u> Event Listener:
+     * <u>Round</u> Event Listener:
      * <p> Exit application, with code. </p>
      **/
-    protected void threadException() {
+    protected void roundException() {
         ArenaController.exit(36);
     }
 
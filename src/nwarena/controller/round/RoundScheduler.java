@@ -0,0 +1,60 @@
+package nwarena.controller.round;
+
+import javax.swing.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h3> Scheduler - nwarena - Round. </h3>
+ * Paces the steps of every {@link RoundController}, on a single shared timer thread.
+ * <p>
+ *     A step is never run on the timer thread itself. Once its delay has passed, it is handed to an
+ *     {@link Executor}: the Event Dispatch Thread for rounds shown on the view, or any executor for headless
+ *     arenas. No thread sleeps between swings, so any amount of concurrent rounds share the same timer.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class RoundScheduler {
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nwarena-round-scheduler");
+        // Pending rounds must not keep the application alive.
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RoundScheduler() {
+    }
+
+    /**
+     * Run {@code step} on {@code executor}, after {@code delay} milliseconds.
+     *
+     * @param step  Step to run.
+     * @param delay  Delay, in milliseconds.
+     * @param executor  {@link Executor} which runs the step.
+     *
+     * @return {@link ScheduledFuture} which can cancel the step, before its delay has passed.
+     */
+    public static ScheduledFuture<?> schedule(Runnable step, long delay, Executor executor) {
+        return TIMER.schedule(() -> executor.execute(step), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run {@code step} on the Event Dispatch Thread, after {@code delay} milliseconds.
+     *
+     * @param step  Step to run.
+     * @param delay  Delay, in milliseconds.
+     *
+     * @return {@link ScheduledFuture} which can cancel the step, before its delay has passed.
+     */
+    public static ScheduledFuture<?> scheduleOnEDT(Runnable step, long delay) {
+        return schedule(step, delay, SwingUtilities::invokeLater);
+    }
+
+}
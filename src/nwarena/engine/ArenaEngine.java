@@ -0,0 +1,291 @@
+package nwarena.engine;
+
+import nwarena.model.Cell;
+import nwarena.model.Character;
+import nwarena.model.Game;
+import nwarena.model.toon.Monster;
+import nwarena.model.toon.Player;
+
+/**
+ * <h3> Engine - nwarena. </h3>
+ * Executes the rules of the Arena directly against a {@link Game}, without any view, sound or pacing.
+ * <p>
+ *     {@code ArenaEngine} applies the same rules as {@link nwarena.controller.ArenaController ArenaController}:
+ *     the current {@link Player} may move to a free surrounding block, fight a {@link Monster} on a surrounding
+ *     block, attack a {@link Player} on a surrounding block, or rest. Each action ends the turn, after which the
+ *     next alive {@link Player} becomes the current one. A fight is resolved swing by swing until one of the
+ *     {@link Character Characters} is dead, or, with {@link #setFastResolve fast resolve}, in one step.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public class ArenaEngine {
+
+    /**
+     * Distance a {@link Player} may move or attack, in blocks. Shared with
+     * {@link nwarena.controller.ArenaController ArenaController}, so recorded matches replay on the engine.
+     */
+    public static final int MOVE_RANGE = 1;
+
+    private final Game _game;
+    private int _turns = 0, _fights = 0;
+    private SwingListener _swingListener = null;
+    private FightListener _fightListener = null;
+    private boolean _fastResolve = false;
+
+    /**
+     * Initialize ArenaEngine.
+     *
+     * @implNote All {@link Player Players} and {@link Monster Monsters} should be set on the map, through
+     * {@link Game#initializeCharactersPosition()}, before the engine is started. A
+     * {@link nwarena.model.MonsterAI MonsterAI} should be set on {@code game} before the engine is initialized, so
+     * the fights of {@link Monster Monsters} are resolved through {@link #fight}.
+     *
+     * @param game  {@link Game} to execute.
+     */
+    public ArenaEngine(Game game) {
+        _game = game;
+        // Fights started by monsters are counted and notified as any other.
+        if (game.getMonsterAI() != null) game.getMonsterAI().setFightResolver(this::fight);
+    }
+
+    /** Start the match, by setting the first {@link Player} as the current one. */
+    public void start() {
+        _game.nextPlayer();
+    }
+
+    /**
+     * Check if {@code cell} is a block surrounding the current {@link Player}, within {@value #MOVE_RANGE} blocks.
+     *
+     * @param cell  Coordinates to check.
+     *
+     * @return True, if {@code cell} is on the map and within {@value #MOVE_RANGE} blocks of the current
+     * {@link Player}, other than its own block.
+     */
+    public boolean isSurrounding(Cell cell) {
+        if (cell.x < 1 || cell.y < 1 || cell.x > _game.getMapWidth() || cell.y > _game.getMapHeight())
+            return false;
+        int distance = cell.distance(_game.getCurrentPlayer().getCoordinates());
+        return distance >= 1 && distance <= MOVE_RANGE;
+    }
+
+    /**
+     * Get the alive {@link Monster} on {@code cell}.
+     *
+     * @param cell  Coordinates to check.
+     *
+     * @return The {@link Monster} on coordinates, or null if the block has no alive {@link Monster}.
+     */
+    public Monster getAliveMonster(Cell cell) {
+        Monster monster = _game.getMonsterOnCoordinates(cell);
+        if (monster == null || monster.getIsDead()) return null;
+        return monster;
+    }
+
+    /**
+     * Move the current {@link Player} to a free surrounding block and end the turn.
+     *
+     * @param cell  Coordinates to move to.
+     *
+     * @return False, if the block is not a free surrounding block.
+     */
+    public boolean move(Cell cell) {
+        if (isFinished() || !isSurrounding(cell)) return false;
+        if (_game.getPlayerOnCoordinates(cell) != null || getAliveMonster(cell) != null) return false;
+        _game.moveCurrentPlayer(cell);
+        endTurn();
+        return true;
+    }
+
+    /**
+     * Fight the {@link Character} on a surrounding block and end the turn.
+     * <p>
+     *     Against a {@link Monster}, the {@link Monster} attacks first. Against a {@link Player}, the current
+     *     {@link Player} attacks first. If the current {@link Player} wins, it takes the block of the defeated
+     *     {@link Character}; otherwise it is moved outside the map.
+     * </p>
+     *
+     * @param cell  Coordinates of the {@link Character} to fight.
+     *
+     * @return The {@link Character} who won the fight, or null if there is nothing to fight on {@code cell}.
+     */
+    public Character attack(Cell cell) {
+        if (isFinished() || !isSurrounding(cell)) return null;
+        Player current = _game.getCurrentPlayer();
+        Player player = _game.getPlayerOnCoordinates(cell);
+        Monster monster = getAliveMonster(cell);
+        Character winner;
+        if (player != null) winner = fight(current, player);
+        else if (monster != null) winner = fight(monster, current);
+        else return null;
+        // Apply the outcome on the map.
+        if (winner == current) {
+            if (player != null) _game.movePlayer(player.getIndex(), Cell.OFF_MAP);
+            _game.moveCurrentPlayer(cell);
+        } else _game.moveCurrentPlayer(Cell.OFF_MAP);
+        endTurn();
+        return winner;
+    }
+
+    /**
+     * Rest the current {@link Player} and end the turn.
+     *
+     * @return False, if the current {@link Player} doesn't need to rest.
+     */
+    public boolean rest() {
+        if (isFinished() || !_game.restCurrentPlayer()) return false;
+        endTurn();
+        return true;
+    }
+
+    /**
+     * Resolve a fight between {@code attacker} and {@code defender}.
+     * <p>
+     *     The {@code attacker} swings as many times as its Attack Rounds, then the two {@link Character Characters}
+     *     swap, till one of them is dead. The {@link SwingListener} is notified of every Attack Round. With fast
+     *     resolve, the final state is drawn through {@link Game#resolveFight}, and no Attack Round is rolled. In both
+     *     cases, the {@link FightListener} is notified once the fight is over, with the Health each side lost.
+     * </p>
+     *
+     * @param attacker  The {@link Character} who swings first.
+     * @param defender  The {@link Character} who gets attacked.
+     *
+     * @return The {@link Character} who is still alive.
+     */
+    public Character fight(Character attacker, Character defender) {
+        _fights++;
+        int attackerHealth = attacker.getHealth(), defenderHealth = defender.getHealth();
+        Character winner = _fastResolve ? _game.resolveFight(attacker, defender) : rollFight(attacker, defender);
+        if (_fightListener != null)
+            _fightListener.onFight(attacker, defender, attackerHealth - attacker.getHealth(),
+                    defenderHealth - defender.getHealth());
+        return winner;
+    }
+
+    /** Roll a fight swing by swing, notifying the {@link SwingListener} of every Attack Round. */
+    private Character rollFight(Character attacker, Character defender) {
+        _game.startFight(attacker, defender);
+        Character offender = attacker, target = defender;
+        while (true) {
+            for (int attackCnt = 0; attackCnt < offender.getAttackRounds(); attackCnt++) {
+                int damage = _game.attackRound(offender, target);
+                if (_swingListener != null) _swingListener.onSwing(offender, target, damage);
+            }
+            if (target.getIsDead()) {
+                _game.endFight(offender, target);
+                return offender;
+            }
+            // Swap ATTACKER and DEFENDER.
+            Character swap = offender;
+            offender = target;
+            target = swap;
+        }
+    }
+
+    /**
+     * Play the match till one {@link Player} remains, or {@code maxTurns} have passed.
+     *
+     * @param policy  {@link TurnPolicy} which picks the action of each {@link Player}.
+     * @param maxTurns  Upper bound of turns, to guard against matches that never end.
+     *
+     * @return The winning {@link Player}, or null if the match didn't finish in time.
+     */
+    public Player playMatch(TurnPolicy policy, int maxTurns) {
+        if (_game.getCurrentPlayer() == null) start();
+        while (!isFinished() && _turns < maxTurns) {
+            Cell cell = policy.nextAction(this);
+            boolean played;
+            if (cell == null) played = rest();
+            else if (_game.getPlayerOnCoordinates(cell) != null || getAliveMonster(cell) != null)
+                played = attack(cell) != null;
+            else played = move(cell);
+            if (!played) throw new IllegalStateException("TurnPolicy picked an invalid action: " + cell);
+        }
+        return getWinner();
+    }
+
+    /**
+     * Check if only one {@link Player} is still alive.
+     *
+     * @return True, if the match is over.
+     */
+    public boolean isFinished() {
+        return _game.getAlivePlayers() <= 1;
+    }
+
+    /**
+     * Get the winning {@link Player}.
+     *
+     * @return The last alive {@link Player}, or null if the match is not over.
+     */
+    public Player getWinner() {
+        if (!isFinished()) return null;
+        for (Player player : _game.getPlayerList()) {
+            if (!player.getIsDead()) return player;
+        }
+        return null;
+    }
+
+    /**
+     * Set the {@link SwingListener} which receives every Attack Round.
+     *
+     * @param listener  The listener, or null to remove it.
+     */
+    public void setSwingListener(SwingListener listener) {
+        _swingListener = listener;
+    }
+
+    /**
+     * Set the {@link FightListener} which receives the outcome of every fight.
+     *
+     * @param listener  The listener, or null to remove it.
+     */
+    public void setFightListener(FightListener listener) {
+        _fightListener = listener;
+    }
+
+    /**
+     * Set whether fights are resolved in one step, instead of swing by swing.
+     *
+     * @param fastResolve  True, to draw the final state of every fight from its exact outcome.
+     */
+    public void setFastResolve(boolean fastResolve) {
+        _fastResolve = fastResolve;
+    }
+
+    /**
+     * Get the {@link Game} executed by the engine.
+     *
+     * @return The {@link Game}.
+     */
+    public Game getGame() {
+        return _game;
+    }
+
+    /**
+     * Get the amount of turns played.
+     *
+     * @return Turns played since the engine was initialized.
+     */
+    public int getTurns() {
+        return _turns;
+    }
+
+    /**
+     * Get the amount of fights resolved.
+     *
+     * @return Fights resolved since the engine was initialized.
+     */
+    public int getFights() {
+        return _fights;
+    }
+
+    /** End the turn and set the next alive {@link Player} as the current one. */
+    private void endTurn() {
+        _turns++;
+        if (!isFinished()) _game.nextPlayer();
+    }
+
+}
@@ -0,0 +1,18 @@
+package nwarena.engine;
+
+import nwarena.model.Character;
+
+/** Receives the outcome of every fight resolved by an {@link ArenaEngine}, whether rolled or resolved in one step. */
+public interface FightListener {
+
+    /**
+     * Called after a fight.
+     *
+     * @param attacker  The {@link Character} who swung first.
+     * @param defender  The {@link Character} who got attacked.
+     * @param attackerDamage  The Health {@code attacker} lost.
+     * @param defenderDamage  The Health {@code defender} lost.
+     */
+    void onFight(Character attacker, Character defender, int attackerDamage, int defenderDamage);
+
+}
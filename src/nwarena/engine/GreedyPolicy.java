@@ -0,0 +1,54 @@
+package nwarena.engine;
+
+import nwarena.model.Cell;
+import nwarena.model.Game;
+import nwarena.model.toon.Player;
+
+/**
+ * A simple {@link TurnPolicy}, used to play headless matches.
+ * <p>
+ *     The current {@link Player} attacks a surrounding {@link Player} if there is one, rests if its Health is
+ *     below half, or steps towards the closest alive {@link Player}. Free blocks are preferred over blocks
+ *     occupied by a {@link nwarena.model.toon.Monster Monster}.
+ * </p>
+ */
+public class GreedyPolicy implements TurnPolicy {
+
+    public Cell nextAction(ArenaEngine engine) {
+        Game game = engine.getGame();
+        Player current = game.getCurrentPlayer();
+        Cell position = current.getCoordinates();
+        Player closest = null;
+        int closestDistance = Integer.MAX_VALUE;
+        for (Player player : game.getPlayerList()) {
+            if (player == current || player.getIsDead()) continue;
+            int distance = position.distance(player.getCoordinates());
+            if (distance < closestDistance) {
+                closest = player;
+                closestDistance = distance;
+            }
+        }
+        // Attack a surrounding player.
+        if (closest != null && closestDistance <= ArenaEngine.MOVE_RANGE) return closest.getCoordinates();
+        // Rest below half health.
+        if (current.getHealth() * 2 < current.getHealthLimit()) return null;
+        // Step towards the closest player.
+        Cell best = null;
+        int bestScore = Integer.MAX_VALUE;
+        for (int x = position.x - ArenaEngine.MOVE_RANGE; x <= position.x + ArenaEngine.MOVE_RANGE; x++) {
+            for (int y = position.y - ArenaEngine.MOVE_RANGE; y <= position.y + ArenaEngine.MOVE_RANGE; y++) {
+                Cell cell = Cell.of(x, y);
+                if (!engine.isSurrounding(cell)) continue;
+                int score = closest == null ? 0 : cell.distance(closest.getCoordinates()) * 2;
+                // Going through a monster costs a fight.
+                if (engine.getAliveMonster(cell) != null) score++;
+                if (score < bestScore) {
+                    best = cell;
+                    bestScore = score;
+                }
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,20 @@
+package nwarena.engine;
+
+import nwarena.model.Character;
+
+/**
+ * Receives every Attack Round rolled by an {@link ArenaEngine}. Fights resolved in one step roll no Attack Round; the
+ * Health lost in any fight is reported to a {@link FightListener}.
+ */
+public interface SwingListener {
+
+    /**
+     * Called after an Attack Round.
+     *
+     * @param offender  Attacker {@link Character}.
+     * @param defender  Defender {@link Character}.
+     * @param damage  The amount of damage inflicted on {@code defender}. Zero or negative on a miss.
+     */
+    void onSwing(Character offender, Character defender, int damage);
+
+}
@@ -0,0 +1,17 @@
+package nwarena.engine;
+
+import nwarena.model.Cell;
+
+/** Picks the action of the current {@link nwarena.model.toon.Player Player} on an {@link ArenaEngine}. */
+public interface TurnPolicy {
+
+    /**
+     * Pick the action of the current {@link nwarena.model.toon.Player Player}.
+     *
+     * @param engine  {@link ArenaEngine} on which the turn is played.
+     *
+     * @return Coordinates of a surrounding block to move to or fight, or null to rest.
+     */
+    Cell nextAction(ArenaEngine engine);
+
+}
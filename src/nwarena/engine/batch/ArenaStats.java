@@ -0,0 +1,85 @@
+package nwarena.engine.batch;
+
+import nwarena.model.toon.ClassType;
+
+/**
+ * Accumulates the outcome of many free-for-all matches, per {@link ClassType}.
+ *
+ * @implNote {@code ArenaStats} is not thread-safe. Each task should fill its own instance, which is
+ * then combined through {@link #merge(ArenaStats)}.
+ */
+public class ArenaStats {
+
+    private final long[] _wins = new long[ClassType.values().length];
+    private final long[] _entries = new long[ClassType.values().length];
+    private long _matches = 0, _unfinished = 0, _turns = 0;
+
+    /**
+     * Count a match.
+     *
+     * @param classes  {@link ClassType ClassTypes} of the {@link nwarena.model.toon.Player Players}, by index.
+     * @param winner  Index of the winning {@link nwarena.model.toon.Player Player}, or -1 if the match didn't finish.
+     * @param turns  Amount of turns played.
+     */
+    public void addMatch(ClassType[] classes, int winner, int turns) {
+        _matches++;
+        _turns += turns;
+        for (ClassType type : classes) _entries[type.ordinal()]++;
+        if (winner < 0) _unfinished++;
+        else _wins[classes[winner].ordinal()]++;
+    }
+
+    /**
+     * Add the counts of {@code other} to this instance.
+     *
+     * @param other  Stats to add.
+     */
+    public void merge(ArenaStats other) {
+        _matches += other._matches;
+        _unfinished += other._unfinished;
+        _turns += other._turns;
+        for (int cnt = 0; cnt < _wins.length; cnt++) {
+            _wins[cnt] += other._wins[cnt];
+            _entries[cnt] += other._entries[cnt];
+        }
+    }
+
+    /**
+     * Get the win rate of {@code type}, per {@link nwarena.model.toon.Player Player} of that class.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return Win rate between 0 and 1.
+     */
+    public double getWinRate(ClassType type) {
+        return _entries[type.ordinal()] == 0 ? 0 : (double) _wins[type.ordinal()] / _entries[type.ordinal()];
+    }
+
+    /**
+     * Get the mean amount of turns per match.
+     *
+     * @return Mean turns.
+     */
+    public double getMeanTurns() {
+        return _matches == 0 ? 0 : (double) _turns / _matches;
+    }
+
+    /**
+     * Get the amount of matches.
+     *
+     * @return Matches counted.
+     */
+    public long getMatches() {
+        return _matches;
+    }
+
+    /**
+     * Get the amount of matches that reached the turn limit.
+     *
+     * @return Unfinished matches.
+     */
+    public long getUnfinished() {
+        return _unfinished;
+    }
+
+}
@@ -0,0 +1,350 @@
+package nwarena.engine.batch;
+
+import nwarena.engine.ArenaEngine;
+import nwarena.engine.GreedyPolicy;
+import nwarena.model.Character;
+import nwarena.model.Dice;
+import nwarena.model.Game;
+import nwarena.model.MonsterAI;
+import nwarena.model.toon.ClassType;
+import nwarena.model.toon.Monster;
+import nwarena.model.toon.Player;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <h3> Batch Simulator - nwarena. </h3>
+ * Runs large amounts of headless matches on a {@link ForkJoinPool}, used for balance tuning.
+ * <p>
+ *     Two batches are available:
+ *     <ul>
+ *         <li>1v1 fights between every pair of {@link ClassType ClassTypes}, through {@link ArenaEngine#fight}.</li>
+ *         <li>4 player free-for-all matches for every combination of playable {@link ClassType ClassTypes},
+ *         through {@link ArenaEngine#playMatch} and a {@link GreedyPolicy}.</li>
+ *     </ul>
+ *     Every task fills its own stats, which are merged on join, so the batches scale with the cores of the pool.
+ *     Every task also rolls its own {@link Dice}, split from a master seed when the task is split, so a batch
+ *     returns the same results for the same seed regardless of scheduling. Free-for-all fights can be resolved in
+ *     one step, through {@link #setFastResolve(boolean)}, {@link Monster Monsters} can play through a
+ *     {@link MonsterAI}, set by {@link #setMonsterAI(boolean)}, and the summary of every free-for-all match can be
+ *     written to a {@link MatchStore}.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public class BatchSimulator {
+
+    /** Amount of fights or matches below which a task is not split any further. */
+    private static final int SPLIT_THRESHOLD = 1024;
+    /** Upper bound of turns of a free-for-all match. */
+    private static final int MAX_TURNS = 10000;
+    /** System property which lets the {@link Monster Monsters} of free-for-all matches play. */
+    private static final String MONSTER_AI_PROPERTY = "nwarena.monsterAI";
+
+    private final ForkJoinPool _pool;
+    private final Dice _dice;
+    private boolean _fastResolve = false;
+    private boolean _monsterAI = false;
+
+    /**
+     * Initialize BatchSimulator.
+     *
+     * @param pool  {@link ForkJoinPool} to run the batches on.
+     * @param seed  Master seed of all batches.
+     */
+    public BatchSimulator(ForkJoinPool pool, long seed) {
+        _pool = pool;
+        _dice = new Dice(seed);
+    }
+
+    /**
+     * Initialize BatchSimulator on the common {@link ForkJoinPool}.
+     *
+     * @param seed  Master seed of all batches.
+     */
+    public BatchSimulator(long seed) {
+        this(ForkJoinPool.commonPool(), seed);
+    }
+
+    /**
+     * Set whether the fights of free-for-all matches are resolved in one step. 1v1 fights are always rolled swing by
+     * swing, as their stats are gathered per swing.
+     *
+     * @param fastResolve  True, to resolve fights through {@link ArenaEngine#setFastResolve(boolean)}.
+     */
+    public void setFastResolve(boolean fastResolve) {
+        _fastResolve = fastResolve;
+    }
+
+    /**
+     * Set whether the {@link Monster Monsters} of free-for-all matches play, or stay on their block.
+     *
+     * @param monsterAI  True, to set a {@link MonsterAI} on every free-for-all match.
+     */
+    public void setMonsterAI(boolean monsterAI) {
+        _monsterAI = monsterAI;
+    }
+
+    /**
+     * Run {@code fights} 1v1 fights for every ordered pair of {@link ClassType ClassTypes}.
+     *
+     * @param fights  Amount of fights per pair.
+     *
+     * @return Matrix of {@link MatchupStats}, indexed by the ordinals of the first and second {@link ClassType}.
+     */
+    public MatchupStats[][] runDuels(int fights) {
+        ClassType[] types = ClassType.values();
+        List<DuelTask> tasks = new ArrayList<>();
+        for (ClassType first : types) {
+            for (ClassType second : types) tasks.add(new DuelTask(first, second, fights, _dice.split()));
+        }
+        MatchupStats[][] matrix = new MatchupStats[types.length][types.length];
+        _pool.invoke(new RecursiveTask<Void>() {
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+        for (DuelTask task : tasks) matrix[task._first.ordinal()][task._second.ordinal()] = task.join();
+        return matrix;
+    }
+
+    /**
+     * Run {@code matches} free-for-all matches for every combination of four playable {@link ClassType ClassTypes}.
+     *
+     * @param matches  Amount of matches per combination.
+     * @param monsterCount  Amount of {@link Monster Monsters} on each match.
+     *
+     * @return {@link ArenaStats} of all matches.
+     */
+    public ArenaStats runArenas(int matches, int monsterCount) {
+        return runArenas(matches, monsterCount, null);
+    }
+
+    /**
+     * Run {@code matches} free-for-all matches for every combination of four playable {@link ClassType ClassTypes},
+     * and write the {@link MatchSummary} of every match to {@code store}.
+     *
+     * @param matches  Amount of matches per combination.
+     * @param monsterCount  Amount of {@link Monster Monsters} on each match.
+     * @param store  {@link MatchStore} of at least {@link #countArenas(int) countArenas(matches)} records, or null.
+     *               The matches of the n-th combination take the n-th block of {@code matches} records.
+     *
+     * @return {@link ArenaStats} of all matches.
+     */
+    public ArenaStats runArenas(int matches, int monsterCount, MatchStore store) {
+        List<ArenaTask> tasks = new ArrayList<>();
+        for (ClassType[] classes : getCombinations(4))
+            tasks.add(new ArenaTask(classes, monsterCount, matches, _fastResolve, _monsterAI, _dice.split(), store,
+                    (long) tasks.size() * matches));
+        return _pool.invoke(new RecursiveTask<>() {
+            protected ArenaStats compute() {
+                invokeAll(tasks);
+                ArenaStats stats = new ArenaStats();
+                for (ArenaTask task : tasks) stats.merge(task.join());
+                return stats;
+            }
+        });
+    }
+
+    /**
+     * Get the amount of matches played by {@link #runArenas(int, int)}.
+     *
+     * @param matches  Amount of matches per combination.
+     *
+     * @return Amount of matches of all combinations.
+     */
+    public static long countArenas(int matches) {
+        return (long) getCombinations(4).size() * matches;
+    }
+
+    /**
+     * Get every combination, with repetition, of {@code size} playable {@link ClassType ClassTypes}.
+     *
+     * @param size  Amount of {@link ClassType ClassTypes} per combination.
+     *
+     * @return {@link List} of combinations.
+     */
+    private static List<ClassType[]> getCombinations(int size) {
+        List<ClassType[]> combinations = new ArrayList<>();
+        addCombinations(combinations, new ClassType[size], 0, 0);
+        return combinations;
+    }
+
+    private static void addCombinations(List<ClassType[]> combinations, ClassType[] current, int position, int from) {
+        if (position == current.length) {
+            combinations.add(current.clone());
+            return;
+        }
+        // MONSTER is not playable.
+        for (int cnt = from; cnt < ClassType.MONSTER.ordinal(); cnt++) {
+            current[position] = ClassType.values()[cnt];
+            addCombinations(combinations, current, position + 1, cnt);
+        }
+    }
+
+    /**
+     * Create a new {@link Character} of {@code type}.
+     *
+     * @param type  {@link ClassType} of the {@link Character}.
+     * @param index  Unique index of the {@link Character}.
+     *
+     * @return A {@link Monster} if {@code type} is MONSTER, otherwise a {@link Player}.
+     */
+    private static Character newCharacter(ClassType type, int index) {
+        if (type == ClassType.MONSTER) return new Monster();
+        return new Player(type, type.name(), index);
+    }
+
+    /** Fights {@code count} 1v1 fights between two {@link ClassType ClassTypes}, splitting into halves. */
+    @SuppressWarnings("serial")
+    private static class DuelTask extends RecursiveTask<MatchupStats> {
+
+        private final ClassType _first, _second;
+        private final int _count;
+        private final Dice _dice;
+
+        private DuelTask(ClassType first, ClassType second, int count, Dice dice) {
+            _first = first;
+            _second = second;
+            _count = count;
+            _dice = dice;
+        }
+
+        protected MatchupStats compute() {
+            if (_count > SPLIT_THRESHOLD) {
+                DuelTask left = new DuelTask(_first, _second, _count / 2, _dice.split());
+                DuelTask right = new DuelTask(_first, _second, _count - _count / 2, _dice.split());
+                left.fork();
+                MatchupStats stats = right.compute();
+                stats.merge(left.join());
+                return stats;
+            }
+            MatchupStats stats = new MatchupStats(_first, _second);
+            ArenaEngine engine = new ArenaEngine(new Game(_dice));
+            engine.setSwingListener((offender, defender, damage) -> stats.addSwing(damage));
+            for (int cnt = 0; cnt < _count; cnt++) {
+                Character first = newCharacter(_first, 0);
+                stats.addFight(engine.fight(first, newCharacter(_second, 1)) == first);
+            }
+            return stats;
+        }
+
+    }
+
+    /** Plays {@code count} free-for-all matches between fixed {@link ClassType ClassTypes}, splitting into halves. */
+    @SuppressWarnings("serial")
+    private static class ArenaTask extends RecursiveTask<ArenaStats> {
+
+        private final ClassType[] _classes;
+        private final int _monsterCount, _count;
+        private final boolean _fastResolve, _monsterAI;
+        private final Dice _dice;
+        private final MatchStore _store;
+        /** Index of the record of the first match. */
+        private final long _first;
+
+        private ArenaTask(ClassType[] classes, int monsterCount, int count, boolean fastResolve, boolean monsterAI,
+                          Dice dice, MatchStore store, long first) {
+            _classes = classes;
+            _monsterCount = monsterCount;
+            _count = count;
+            _fastResolve = fastResolve;
+            _monsterAI = monsterAI;
+            _dice = dice;
+            _store = store;
+            _first = first;
+        }
+
+        protected ArenaStats compute() {
+            if (_count > SPLIT_THRESHOLD) {
+                ArenaTask left = new ArenaTask(_classes, _monsterCount, _count / 2, _fastResolve, _monsterAI,
+                        _dice.split(), _store, _first);
+                ArenaTask right = new ArenaTask(_classes, _monsterCount, _count - _count / 2, _fastResolve,
+                        _monsterAI, _dice.split(), _store, _first + _count / 2);
+                left.fork();
+                ArenaStats stats = right.compute();
+                stats.merge(left.join());
+                return stats;
+            }
+            ArenaStats stats = new ArenaStats();
+            GreedyPolicy policy = new GreedyPolicy();
+            MatchSummary summary = _store == null ? null : new MatchSummary();
+            for (int cnt = 0; cnt < _count; cnt++) {
+                Game game = new Game(_dice);
+                for (ClassType type : _classes) game.addPlayer(type.name(), type);
+                for (int monster = 0; monster < _monsterCount; monster++) game.addMonster();
+                game.initializeCharactersPosition();
+                if (_monsterAI) game.setMonsterAI(new MonsterAI());
+                ArenaEngine engine = new ArenaEngine(game);
+                engine.setFastResolve(_fastResolve);
+                if (summary != null) {
+                    summary.reset(_classes, _monsterCount, _fastResolve, _monsterAI);
+                    engine.setFightListener(summary);
+                }
+                Player winner = engine.playMatch(policy, MAX_TURNS);
+                stats.addMatch(_classes, winner == null ? -1 : winner.getIndex(), engine.getTurns());
+                if (summary != null) {
+                    summary.setResult(winner == null ? -1 : winner.getIndex(), engine.getTurns(), engine.getFights(),
+                            _monsterCount - game.getAliveMonsters());
+                    _store.put(_first + cnt, summary);
+                }
+            }
+            return stats;
+        }
+
+    }
+
+    /**
+     * Run both batches and print a report.
+     *
+     * @param args  Optional: fights per 1v1 pair, matches per free-for-all combination, monsters per match, seed,
+     *              "fast" to resolve free-for-all fights in one step, or "swing" to roll them swing by swing, and the
+     *              file of a {@link MatchStore} for the summaries of the free-for-all matches. {@link Monster Monsters}
+     *              play if the {@value #MONSTER_AI_PROPERTY} system property is true.
+     */
+    public static void main(String[] args) throws IOException {
+        int fights = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int matches = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int monsters = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        BatchSimulator simulator = new BatchSimulator(seed);
+        simulator.setFastResolve(args.length > 4 && args[4].equals("fast"));
+        simulator.setMonsterAI(Boolean.getBoolean(MONSTER_AI_PROPERTY));
+        System.out.printf("Seed: %d%n", seed);
+
+        long start = System.nanoTime();
+        MatchupStats[][] duels = simulator.runDuels(fights);
+        System.out.printf("1v1 - %d fights per pair (%d ms)%n", fights, (System.nanoTime() - start) / 1000000);
+        System.out.printf("%-11s %-11s %8s %8s %8s %8s%n", "First", "Second", "Win %", "Rounds", "Damage", "Miss %");
+        for (MatchupStats[] row : duels) {
+            for (MatchupStats stats : row) {
+                System.out.printf("%-11s %-11s %8.2f %8.2f %8.2f %8.2f%n", stats.getFirst(), stats.getSecond(),
+                        stats.getWinRate() * 100, stats.getMeanRoundsToKill(), stats.getMeanDamage(),
+                        stats.getMissRate() * 100);
+            }
+        }
+
+        start = System.nanoTime();
+        ArenaStats arenas;
+        if (args.length > 5) {
+            try (MatchStore store = MatchStore.create(Path.of(args[5]), countArenas(matches), seed)) {
+                arenas = simulator.runArenas(matches, monsters, store);
+            }
+        } else arenas = simulator.runArenas(matches, monsters);
+        System.out.printf("%nFree-for-all - %d matches, %d unfinished, %.1f turns per match (%d ms)%n",
+                arenas.getMatches(), arenas.getUnfinished(), arenas.getMeanTurns(), (System.nanoTime() - start) / 1000000);
+        for (int cnt = 0; cnt < ClassType.MONSTER.ordinal(); cnt++) {
+            ClassType type = ClassType.values()[cnt];
+            System.out.printf("%-11s %8.2f%n", type, arenas.getWinRate(type) * 100);
+        }
+    }
+
+}
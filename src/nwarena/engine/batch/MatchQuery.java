@@ -0,0 +1,85 @@
+package nwarena.engine.batch;
+
+import nwarena.model.toon.ClassType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <h3> Match Query - nwarena. </h3>
+ * Scans a {@link MatchStore} and prints the win rate and the damage of every {@link ClassType}.
+ * <p>
+ *     Records are read in place on the mapped file, one field at a time, so a scan doesn't allocate per match.
+ *     With {@code --with <class>}, only matches with at least one {@link nwarena.model.toon.Player Player} of
+ *     that {@link ClassType} are counted.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class MatchQuery {
+
+    private MatchQuery() {
+    }
+
+    /**
+     * Run the query.
+     *
+     * @param args  The file of the {@link MatchStore}, optionally followed by {@code --with <class>}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MatchQuery <file> [--with <class>]");
+            System.exit(2);
+        }
+        ClassType with = args.length > 2 && args[1].equals("--with") ? ClassType.valueOf(args[2].toUpperCase()) : null;
+        int types = ClassType.values().length;
+        long[] entries = new long[types], wins = new long[types], damage = new long[types];
+        long matches = 0, unfinished = 0, monsterAI = 0, turns = 0, fights = 0, monstersKilled = 0, monsterDamage = 0;
+        long start = System.nanoTime();
+        try (MatchStore store = MatchStore.open(Path.of(args[0]))) {
+            for (long index = 0; index < store.size(); index++) {
+                if (with != null && !hasClass(store, index, with)) continue;
+                matches++;
+                if (store.getMonsterAI(index)) monsterAI++;
+                turns += store.getTurns(index);
+                fights += store.getFights(index);
+                monstersKilled += store.getMonstersKilled(index);
+                monsterDamage += store.getMonsterDamage(index);
+                for (int player = 0; player < MatchSummary.PLAYERS; player++) {
+                    int type = store.getPlayerClass(index, player).ordinal();
+                    entries[type]++;
+                    damage[type] += store.getDamage(index, player);
+                }
+                int winner = store.getWinner(index);
+                if (winner < 0) unfinished++;
+                else wins[store.getPlayerClass(index, winner).ordinal()]++;
+            }
+            System.out.printf("Seed: %d%n", store.getSeed());
+        }
+        System.out.printf("%d matches, %d unfinished, %d with Monster AI, %.1f turns, %.1f fights, %.1f monsters killed"
+                        + " per match (%d ms)%n", matches, unfinished, monsterAI, mean(turns, matches), mean(fights, matches), mean(monstersKilled, matches),
+                (System.nanoTime() - start) / 1000000);
+        System.out.printf("%-11s %10s %8s %10s%n", "Class", "Entries", "Win %", "Damage");
+        for (int type = 0; type < ClassType.MONSTER.ordinal(); type++) {
+            if (entries[type] == 0) continue;
+            System.out.printf("%-11s %10d %8.2f %10.1f%n", ClassType.values()[type], entries[type],
+                    mean(wins[type], entries[type]) * 100, mean(damage[type], entries[type]));
+        }
+        System.out.printf("%-11s %10s %8s %10.1f%n", ClassType.MONSTER, "", "", mean(monsterDamage, matches));
+    }
+
+    /** Check if a {@link nwarena.model.toon.Player Player} of the record of {@code index} is of {@code type}. */
+    private static boolean hasClass(MatchStore store, long index, ClassType type) {
+        for (int player = 0; player < MatchSummary.PLAYERS; player++) {
+            if (store.getPlayerClass(index, player) == type) return true;
+        }
+        return false;
+    }
+
+    private static double mean(long sum, long count) {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+}
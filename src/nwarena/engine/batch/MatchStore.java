@@ -0,0 +1,237 @@
+package nwarena.engine.batch;
+
+import nwarena.model.toon.ClassType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <h3> Match Store - nwarena. </h3>
+ * File of {@link MatchSummary MatchSummaries}, one fixed-width record per match, memory-mapped.
+ * <p>
+ *     Records are written and read in place, on the mapped file, so storing or scanning millions of matches doesn't
+ *     allocate per match and doesn't go through text. A record is found by its index, which is the order in which
+ *     the {@link BatchSimulator} plays the matches, so a store holds the same records for the same seed.
+ * </p>
+ * <p>
+ *     File layout, big-endian: a header of {@value #HEADER_SIZE} bytes (magic {@value #MAGIC}, version, record size,
+ *     amount of records, master seed), followed by records of {@value #RECORD_SIZE} bytes:
+ *     <ul>
+ *         <li>0: {@link ClassType} ordinal of every {@link nwarena.model.toon.Player Player}, one byte each.</li>
+ *         <li>4: index of the winner, or -1 if the match didn't finish.</li>
+ *         <li>5: flags. Bit 0 is set if fights were resolved in one step, bit 1 if
+ *         {@link nwarena.model.toon.Monster Monsters} played through a {@link nwarena.model.MonsterAI MonsterAI}.</li>
+ *         <li>8: turns, 12: fights, 16: {@link nwarena.model.toon.Monster Monsters}, 20: Monsters killed.</li>
+ *         <li>24: damage dealt by every {@link nwarena.model.toon.Player Player}, 40: damage dealt by Monsters. Damage
+ *         is the Health the other side lost, see {@link MatchSummary}.</li>
+ *     </ul>
+ * </p>
+ *
+ * @implNote Records are written through absolute puts, so threads may write different records at the same time.
+ * The file is mapped in segments of up to 1 GB, so it may grow past the 2 GB bound of a single mapping.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class MatchStore implements Closeable {
+
+    /** First bytes of every store: "NWMS". */
+    public static final int MAGIC = 0x4E574D53;
+    /** Version of the file layout. Version 1 stored the Attack Rolls above AC as damage, instead of Health lost. */
+    public static final short VERSION = 2;
+    /** Size of the header, in bytes. */
+    public static final int HEADER_SIZE = 24;
+    /** Size of a record, in bytes. */
+    public static final int RECORD_SIZE = 44;
+    /** Amount of records mapped together. */
+    private static final int SEGMENT_RECORDS = (1 << 30) / RECORD_SIZE;
+    private static final int FLAG_FAST_RESOLVE = 1;
+    private static final int FLAG_MONSTER_AI = 2;
+    private static final ClassType[] TYPES = ClassType.values();
+
+    private final FileChannel _channel;
+    private final MappedByteBuffer[] _segments;
+    private final long _size, _seed;
+
+    private MatchStore(FileChannel channel, FileChannel.MapMode mode, long size, long seed) throws IOException {
+        _channel = channel;
+        _size = size;
+        _seed = seed;
+        _segments = new MappedByteBuffer[(int) ((size + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS)];
+        for (int cnt = 0; cnt < _segments.length; cnt++) {
+            long records = Math.min(SEGMENT_RECORDS, size - (long) cnt * SEGMENT_RECORDS);
+            _segments[cnt] = channel.map(mode, HEADER_SIZE + (long) cnt * SEGMENT_RECORDS * RECORD_SIZE,
+                    records * RECORD_SIZE);
+        }
+    }
+
+    /**
+     * Create a store of {@code size} records, replacing {@code file}. Every record is zero till written.
+     *
+     * @param file  {@link Path} of the store.
+     * @param size  Amount of records.
+     * @param seed  Master seed of the batch which fills the store.
+     *
+     * @return The store, open for writing.
+     *
+     * @throws IOException If the file could not be created or mapped.
+     */
+    public static MatchStore create(Path file, long size, long seed) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(size).putLong(seed).flip();
+            while (header.hasRemaining()) channel.write(header, header.position());
+            return new MatchStore(channel, FileChannel.MapMode.READ_WRITE, size, seed);
+        } catch (IOException | RuntimeException exc) {
+            channel.close();
+            throw exc;
+        }
+    }
+
+    /**
+     * Open an existing store, for reading.
+     *
+     * @param file  {@link Path} of the store.
+     *
+     * @return The store.
+     *
+     * @throws IOException If the file could not be read, or is not a valid store.
+     */
+    public static MatchStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) throw new IOException("Truncated match store");
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) throw new IOException("Not a match store");
+            short version = header.getShort();
+            if (version != VERSION) throw new IOException("Unsupported match store version " + version);
+            if (header.getShort() != RECORD_SIZE) throw new IOException("Invalid record size");
+            long size = header.getLong(), seed = header.getLong();
+            if (size < 0 || channel.size() < HEADER_SIZE + size * RECORD_SIZE)
+                throw new IOException("Truncated match store");
+            return new MatchStore(channel, FileChannel.MapMode.READ_ONLY, size, seed);
+        } catch (IOException | RuntimeException exc) {
+            channel.close();
+            throw exc;
+        }
+    }
+
+    /**
+     * Write the record of {@code index}.
+     *
+     * @param index  Index of the record.
+     * @param summary  {@link MatchSummary} to write.
+     */
+    public void put(long index, MatchSummary summary) {
+        MappedByteBuffer segment = segmentOf(index);
+        int offset = offsetOf(index);
+        for (int cnt = 0; cnt < MatchSummary.PLAYERS; cnt++)
+            segment.put(offset + cnt, (byte) summary.getPlayerClass(cnt).ordinal());
+        segment.put(offset + 4, (byte) summary.getWinner());
+        segment.put(offset + 5, (byte) ((summary.getFastResolve() ? FLAG_FAST_RESOLVE : 0)
+                | (summary.getMonsterAI() ? FLAG_MONSTER_AI : 0)));
+        segment.putInt(offset + 8, summary.getTurns());
+        segment.putInt(offset + 12, summary.getFights());
+        segment.putInt(offset + 16, summary.getMonsterCount());
+        segment.putInt(offset + 20, summary.getMonstersKilled());
+        for (int cnt = 0; cnt < MatchSummary.PLAYERS; cnt++) segment.putInt(offset + 24 + cnt * 4, summary.getDamage(cnt));
+        segment.putInt(offset + 40, summary.getMonsterDamage());
+    }
+
+    /** Get the {@link ClassType} of {@code player} on the record of {@code index}. */
+    public ClassType getPlayerClass(long index, int player) {
+        return TYPES[segmentOf(index).get(offsetOf(index) + player)];
+    }
+
+    /** Get the index of the winner on the record of {@code index}, or -1 if the match didn't finish. */
+    public int getWinner(long index) {
+        return segmentOf(index).get(offsetOf(index) + 4);
+    }
+
+    /** Check if fights were resolved in one step, on the record of {@code index}. */
+    public boolean getFastResolve(long index) {
+        return (segmentOf(index).get(offsetOf(index) + 5) & FLAG_FAST_RESOLVE) != 0;
+    }
+
+    /** Check if {@link nwarena.model.toon.Monster Monsters} played through an AI, on the record of {@code index}. */
+    public boolean getMonsterAI(long index) {
+        return (segmentOf(index).get(offsetOf(index) + 5) & FLAG_MONSTER_AI) != 0;
+    }
+
+    /** Get the amount of turns on the record of {@code index}. */
+    public int getTurns(long index) {
+        return segmentOf(index).getInt(offsetOf(index) + 8);
+    }
+
+    /** Get the amount of fights on the record of {@code index}. */
+    public int getFights(long index) {
+        return segmentOf(index).getInt(offsetOf(index) + 12);
+    }
+
+    /** Get the amount of {@link nwarena.model.toon.Monster Monsters} on the record of {@code index}. */
+    public int getMonsterCount(long index) {
+        return segmentOf(index).getInt(offsetOf(index) + 16);
+    }
+
+    /** Get the amount of {@link nwarena.model.toon.Monster Monsters} killed on the record of {@code index}. */
+    public int getMonstersKilled(long index) {
+        return segmentOf(index).getInt(offsetOf(index) + 20);
+    }
+
+    /** Get the damage dealt by {@code player} on the record of {@code index}. */
+    public int getDamage(long index, int player) {
+        return segmentOf(index).getInt(offsetOf(index) + 24 + player * 4);
+    }
+
+    /** Get the damage dealt by {@link nwarena.model.toon.Monster Monsters} on the record of {@code index}. */
+    public int getMonsterDamage(long index) {
+        return segmentOf(index).getInt(offsetOf(index) + 40);
+    }
+
+    /**
+     * Get the amount of records.
+     *
+     * @return Amount of matches the store holds.
+     */
+    public long size() {
+        return _size;
+    }
+
+    /**
+     * Get the master seed of the batch which filled the store.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return _seed;
+    }
+
+    /** Write the records to disk, if open for writing, and close the file. */
+    public void close() throws IOException {
+        for (MappedByteBuffer segment : _segments) {
+            if (!segment.isReadOnly()) segment.force();
+        }
+        _channel.close();
+    }
+
+    private MappedByteBuffer segmentOf(long index) {
+        if (index < 0 || index >= _size) throw new IndexOutOfBoundsException("Record " + index + " of " + _size);
+        return _segments[(int) (index / SEGMENT_RECORDS)];
+    }
+
+    private static int offsetOf(long index) {
+        return (int) (index % SEGMENT_RECORDS) * RECORD_SIZE;
+    }
+
+}
@@ -0,0 +1,129 @@
+package nwarena.engine.batch;
+
+import nwarena.engine.FightListener;
+import nwarena.model.Character;
+import nwarena.model.toon.ClassType;
+
+import java.util.Arrays;
+
+/**
+ * Summary of one free-for-all match, as kept by a {@link MatchStore}.
+ * <p>
+ *     A summary is a {@link FightListener}, which adds up the damage dealt by every
+ *     {@link nwarena.model.toon.Player Player}, and by all {@link nwarena.model.toon.Monster Monsters} together.
+ *     Damage is the Health the other side lost, so overkill is not counted, and matches rolled swing by swing and
+ *     resolved in one step are measured the same way.
+ *     A task reuses one instance for all of its matches, through {@link #reset}.
+ * </p>
+ *
+ * @implNote {@code MatchSummary} is not thread-safe.
+ */
+public class MatchSummary implements FightListener {
+
+    /** Amount of {@link nwarena.model.toon.Player Players} per match. */
+    public static final int PLAYERS = 4;
+
+    private final ClassType[] _classes = new ClassType[PLAYERS];
+    private final int[] _damage = new int[PLAYERS];
+    private int _monsterDamage, _monsterCount, _monstersKilled, _winner, _turns, _fights;
+    private boolean _fastResolve, _monsterAI;
+
+    /**
+     * Clear the summary, for a new match.
+     *
+     * @param classes  {@link ClassType ClassTypes} of the {@link nwarena.model.toon.Player Players}, by index.
+     * @param monsterCount  Amount of {@link nwarena.model.toon.Monster Monsters}.
+     * @param fastResolve  True, if fights are resolved in one step.
+     * @param monsterAI  True, if {@link nwarena.model.toon.Monster Monsters} play through a
+     *                   {@link nwarena.model.MonsterAI MonsterAI}.
+     */
+    public void reset(ClassType[] classes, int monsterCount, boolean fastResolve, boolean monsterAI) {
+        System.arraycopy(classes, 0, _classes, 0, PLAYERS);
+        Arrays.fill(_damage, 0);
+        _monsterDamage = 0;
+        _monsterCount = monsterCount;
+        _fastResolve = fastResolve;
+        _monsterAI = monsterAI;
+        _monstersKilled = 0;
+        _winner = -1;
+        _turns = 0;
+        _fights = 0;
+    }
+
+    public void onFight(Character attacker, Character defender, int attackerDamage, int defenderDamage) {
+        addDamage(attacker, defenderDamage);
+        addDamage(defender, attackerDamage);
+    }
+
+    /**
+     * Set the outcome of the match.
+     *
+     * @param winner  Index of the winning {@link nwarena.model.toon.Player Player}, or -1 if the match didn't finish.
+     * @param turns  Amount of turns played.
+     * @param fights  Amount of fights resolved.
+     * @param monstersKilled  Amount of {@link nwarena.model.toon.Monster Monsters} killed.
+     */
+    public void setResult(int winner, int turns, int fights, int monstersKilled) {
+        _winner = winner;
+        _turns = turns;
+        _fights = fights;
+        _monstersKilled = monstersKilled;
+    }
+
+    /** Add the Health {@code offender} took from the other side of a fight. */
+    private void addDamage(Character offender, int damage) {
+        if (offender.Class == ClassType.MONSTER) _monsterDamage += damage;
+        else _damage[offender.getIndex()] += damage;
+    }
+
+    /** Get the {@link ClassType} of the {@link nwarena.model.toon.Player Player} of {@code index}. */
+    public ClassType getPlayerClass(int index) {
+        return _classes[index];
+    }
+
+    /** Get the damage dealt by the {@link nwarena.model.toon.Player Player} of {@code index}. */
+    public int getDamage(int index) {
+        return _damage[index];
+    }
+
+    /** Get the damage dealt by all {@link nwarena.model.toon.Monster Monsters}. */
+    public int getMonsterDamage() {
+        return _monsterDamage;
+    }
+
+    /** Get the amount of {@link nwarena.model.toon.Monster Monsters}. */
+    public int getMonsterCount() {
+        return _monsterCount;
+    }
+
+    /** Get the amount of {@link nwarena.model.toon.Monster Monsters} killed. */
+    public int getMonstersKilled() {
+        return _monstersKilled;
+    }
+
+    /** Get the index of the winning {@link nwarena.model.toon.Player Player}, or -1 if the match didn't finish. */
+    public int getWinner() {
+        return _winner;
+    }
+
+    /** Get the amount of turns played. */
+    public int getTurns() {
+        return _turns;
+    }
+
+    /** Get the amount of fights resolved. */
+    public int getFights() {
+        return _fights;
+    }
+
+    /** Check if fights were resolved in one step. */
+    public boolean getFastResolve() {
+        return _fastResolve;
+    }
+
+    /** Check if {@link nwarena.model.toon.Monster Monsters} played through a {@link nwarena.model.MonsterAI MonsterAI}. */
+    public boolean getMonsterAI() {
+        return _monsterAI;
+    }
+
+}
@@ -0,0 +1,138 @@
+package nwarena.engine.batch;
+
+import nwarena.model.toon.ClassType;
+
+/**
+ * Accumulates the outcome of many 1v1 fights between two {@link ClassType ClassTypes}.
+ *
+ * @implNote {@code MatchupStats} is not thread-safe. Each task should fill its own instance, which is
+ * then combined through {@link #merge(MatchupStats)}.
+ */
+public class MatchupStats {
+
+    /** Damage values above this bound are counted in the last bin of the damage distribution. */
+    public static final int DAMAGE_BINS = 128;
+
+    private final ClassType _first, _second;
+    private long _fights = 0, _firstWins = 0, _swings = 0, _damage = 0;
+    private final long[] _damageDistribution = new long[DAMAGE_BINS];
+
+    /**
+     * Initialize MatchupStats.
+     *
+     * @param first  {@link ClassType} which attacks first.
+     * @param second  {@link ClassType} which gets attacked.
+     */
+    public MatchupStats(ClassType first, ClassType second) {
+        _first = first;
+        _second = second;
+    }
+
+    /**
+     * Count an Attack Round.
+     *
+     * @param damage  The amount of damage inflicted. Zero or negative on a miss.
+     */
+    public void addSwing(int damage) {
+        if (damage < 0) damage = 0;
+        _swings++;
+        _damage += damage;
+        _damageDistribution[Math.min(damage, DAMAGE_BINS - 1)]++;
+    }
+
+    /**
+     * Count a finished fight.
+     *
+     * @param firstWon  True, if the {@link ClassType} which attacked first won.
+     */
+    public void addFight(boolean firstWon) {
+        _fights++;
+        if (firstWon) _firstWins++;
+    }
+
+    /**
+     * Add the counts of {@code other} to this instance.
+     *
+     * @param other  Stats of the same matchup.
+     */
+    public void merge(MatchupStats other) {
+        _fights += other._fights;
+        _firstWins += other._firstWins;
+        _swings += other._swings;
+        _damage += other._damage;
+        for (int cnt = 0; cnt < DAMAGE_BINS; cnt++) _damageDistribution[cnt] += other._damageDistribution[cnt];
+    }
+
+    /**
+     * Get the win rate of the {@link ClassType} which attacks first.
+     *
+     * @return Win rate between 0 and 1.
+     */
+    public double getWinRate() {
+        return _fights == 0 ? 0 : (double) _firstWins / _fights;
+    }
+
+    /**
+     * Get the mean amount of Attack Rounds till one side is dead.
+     *
+     * @return Mean Attack Rounds per fight.
+     */
+    public double getMeanRoundsToKill() {
+        return _fights == 0 ? 0 : (double) _swings / _fights;
+    }
+
+    /**
+     * Get the mean damage of an Attack Round, including misses.
+     *
+     * @return Mean damage per Attack Round.
+     */
+    public double getMeanDamage() {
+        return _swings == 0 ? 0 : (double) _damage / _swings;
+    }
+
+    /**
+     * Get the share of Attack Rounds that missed.
+     *
+     * @return Miss rate between 0 and 1.
+     */
+    public double getMissRate() {
+        return _swings == 0 ? 0 : (double) _damageDistribution[0] / _swings;
+    }
+
+    /**
+     * Get the damage distribution. Index {@code n} holds the amount of Attack Rounds that inflicted {@code n} damage.
+     *
+     * @return A copy of the damage distribution.
+     */
+    public long[] getDamageDistribution() {
+        return _damageDistribution.clone();
+    }
+
+    /**
+     * Get the amount of fights.
+     *
+     * @return Fights counted.
+     */
+    public long getFights() {
+        return _fights;
+    }
+
+    /**
+     * Get the {@link ClassType} which attacks first.
+     *
+     * @return The first {@link ClassType}.
+     */
+    public ClassType getFirst() {
+        return _first;
+    }
+
+    /**
+     * Get the {@link ClassType} which gets attacked.
+     *
+     * @return The second {@link ClassType}.
+     */
+    public ClassType getSecond() {
+        return _second;
+    }
+
+}
@@ -0,0 +1,307 @@
+package nwarena.engine.replay;
+
+import nwarena.model.Cell;
+import nwarena.model.toon.ClassType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h3> Match Recording - nwarena - Replay. </h3>
+ * Compact record of a match: the master seed of its {@link nwarena.model.Dice Dice}, its setup and every action
+ * of its {@link nwarena.model.toon.Player Players}.
+ * <p>
+ *     Every roll of a {@link nwarena.model.Game Game}, including the placement of the
+ *     {@link nwarena.model.toon.Monster Monsters}, comes from the master seed, so the setup and the actions are
+ *     enough to re-execute the match through {@link MatchReplay}.
+ * </p>
+ * <p>
+ *     Binary format, big-endian: magic {@value #MAGIC}, version, seed, map width and height, fast resolve flag,
+ *     Monster AI flag, amount of {@link nwarena.model.toon.Monster Monsters}, the name and {@link ClassType} of every
+ *     {@link nwarena.model.toon.Player Player}, the actions, then the recorded winner and amount of turns.
+ *     A rest takes one byte, a move or an attack five. Recordings of version 1 have no Monster AI flag, and are
+ *     read without a {@link nwarena.model.MonsterAI MonsterAI}.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class MatchRecording {
+
+    /** First bytes of every recording: "NWRM". */
+    public static final int MAGIC = 0x4E57524D;
+    /** Version of the binary format. Version 1 had no Monster AI flag. */
+    public static final short VERSION = 2;
+    /** File extension of recordings. */
+    public static final String EXTENSION = ".nwr";
+
+    /** Types of the actions. */
+    public enum Action {
+        /** The current Player rested. */
+        REST,
+        /** The current Player moved to a free block. */
+        MOVE,
+        /** The current Player attacked the Character on a block. */
+        ATTACK
+    }
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final long _seed;
+    private final int _mapWidth, _mapHeight, _monsterCount;
+    private final boolean _fastResolve, _monsterAI;
+    private final List<String> _names = new ArrayList<>();
+    private final List<ClassType> _classes = new ArrayList<>();
+    private byte[] _actions = new byte[64];
+    /** Coordinates of each action, packed as y << 16 | x. Zero for a rest. */
+    private int[] _cells = new int[64];
+    private int _actionCount = 0;
+    private int _winner = -1, _turns = 0;
+
+    /**
+     * Initialize MatchRecording.
+     *
+     * @param seed  Master seed of the {@link nwarena.model.Dice Dice} of the match.
+     * @param mapWidth  Amount of columns on the map.
+     * @param mapHeight  Amount of rows on the map.
+     * @param monsterCount  Amount of {@link nwarena.model.toon.Monster Monsters}.
+     * @param fastResolve  True, if fights are resolved in one step.
+     * @param monsterAI  True, if {@link nwarena.model.toon.Monster Monsters} play through a
+     *                   {@link nwarena.model.MonsterAI MonsterAI}.
+     */
+    public MatchRecording(long seed, int mapWidth, int mapHeight, int monsterCount, boolean fastResolve,
+                          boolean monsterAI) {
+        _seed = seed;
+        _mapWidth = mapWidth;
+        _mapHeight = mapHeight;
+        _monsterCount = monsterCount;
+        _fastResolve = fastResolve;
+        _monsterAI = monsterAI;
+    }
+
+    /**
+     * Add a {@link nwarena.model.toon.Player Player}, in the order it was added to the match.
+     *
+     * @param name  Name of the {@link nwarena.model.toon.Player Player}.
+     * @param type  {@link ClassType} of the {@link nwarena.model.toon.Player Player}.
+     */
+    public void addPlayer(String name, ClassType type) {
+        _names.add(name);
+        _classes.add(type);
+    }
+
+    /**
+     * Record an action of the current {@link nwarena.model.toon.Player Player}.
+     *
+     * @param action  The {@link Action}.
+     * @param cell  Coordinates of a move or an attack. Ignored for a rest.
+     */
+    public void record(Action action, Cell cell) {
+        if (_actionCount == _actions.length) {
+            _actions = Arrays.copyOf(_actions, _actionCount * 2);
+            _cells = Arrays.copyOf(_cells, _actionCount * 2);
+        }
+        _actions[_actionCount] = (byte) action.ordinal();
+        _cells[_actionCount] = action == Action.REST ? 0 : (cell.y << 16) | cell.x;
+        _actionCount++;
+    }
+
+    /**
+     * Set the outcome of the match.
+     *
+     * @param winner  Index of the winning {@link nwarena.model.toon.Player Player}, or -1 if unfinished.
+     * @param turns  Amount of turns played.
+     */
+    public void setResult(int winner, int turns) {
+        _winner = winner;
+        _turns = turns;
+    }
+
+    /**
+     * Write the recording.
+     *
+     * @param stream  {@link OutputStream} to write to. It is flushed, not closed.
+     *
+     * @throws IOException If the stream could not be written.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(_seed);
+        out.writeShort(_mapWidth);
+        out.writeShort(_mapHeight);
+        out.writeBoolean(_fastResolve);
+        out.writeBoolean(_monsterAI);
+        out.writeInt(_monsterCount);
+        out.writeByte(_names.size());
+        for (int cnt = 0; cnt < _names.size(); cnt++) {
+            out.writeUTF(_names.get(cnt));
+            out.writeByte(_classes.get(cnt).ordinal());
+        }
+        out.writeInt(_actionCount);
+        for (int cnt = 0; cnt < _actionCount; cnt++) {
+            out.writeByte(_actions[cnt]);
+            if (_actions[cnt] != Action.REST.ordinal()) out.writeInt(_cells[cnt]);
+        }
+        out.writeByte(_winner);
+        out.writeInt(_turns);
+        out.flush();
+    }
+
+    /**
+     * Read a recording.
+     *
+     * @param stream  {@link InputStream} to read. It is not closed.
+     *
+     * @return The recording.
+     *
+     * @throws IOException If the stream could not be read, or is not a valid recording.
+     */
+    public static MatchRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) throw new IOException("Not a match recording");
+        short version = in.readShort();
+        if (version < 1 || version > VERSION) throw new IOException("Unsupported recording version " + version);
+        long seed = in.readLong();
+        int mapWidth = in.readShort(), mapHeight = in.readShort();
+        boolean fastResolve = in.readBoolean();
+        // Version 1 was recorded without a monster AI.
+        boolean monsterAI = version > 1 && in.readBoolean();
+        MatchRecording recording = new MatchRecording(seed, mapWidth, mapHeight, in.readInt(), fastResolve, monsterAI);
+        ClassType[] types = ClassType.values();
+        int players = in.readUnsignedByte();
+        for (int cnt = 0; cnt < players; cnt++) {
+            String name = in.readUTF();
+            int type = in.readUnsignedByte();
+            if (type >= types.length) throw new IOException("Unknown class " + type);
+            recording.addPlayer(name, types[type]);
+        }
+        int actions = in.readInt();
+        if (actions < 0) throw new IOException("Invalid amount of actions " + actions);
+        for (int cnt = 0; cnt < actions; cnt++) {
+            int action = in.readUnsignedByte();
+            if (action >= ACTIONS.length) throw new IOException("Unknown action " + action);
+            int cell = action == Action.REST.ordinal() ? 0 : in.readInt();
+            recording.record(ACTIONS[action], Cell.of(cell & 0xFFFF, cell >>> 16));
+        }
+        recording.setResult(in.readByte(), in.readInt());
+        return recording;
+    }
+
+    /**
+     * Save the recording in {@code directory}, named after its seed.
+     *
+     * @param directory  Directory to save to. Created if missing.
+     *
+     * @return {@link Path} of the saved file.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    public Path save(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("match-" + Long.toHexString(_seed) + EXTENSION);
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            write(stream);
+        }
+        return file;
+    }
+
+    /**
+     * Load a recording.
+     *
+     * @param file  {@link Path} of the recording.
+     *
+     * @return The recording.
+     *
+     * @throws IOException If the file could not be read, or is not a valid recording.
+     */
+    public static MatchRecording load(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            return read(stream);
+        }
+    }
+
+    /** Get the master seed. */
+    public long getSeed() {
+        return _seed;
+    }
+
+    /** Get the amount of columns on the map. */
+    public int getMapWidth() {
+        return _mapWidth;
+    }
+
+    /** Get the amount of rows on the map. */
+    public int getMapHeight() {
+        return _mapHeight;
+    }
+
+    /** Get the amount of {@link nwarena.model.toon.Monster Monsters}. */
+    public int getMonsterCount() {
+        return _monsterCount;
+    }
+
+    /** Check if fights are resolved in one step. */
+    public boolean getFastResolve() {
+        return _fastResolve;
+    }
+
+    /** Check if {@link nwarena.model.toon.Monster Monsters} play through a {@link nwarena.model.MonsterAI MonsterAI}. */
+    public boolean getMonsterAI() {
+        return _monsterAI;
+    }
+
+    /** Get the amount of {@link nwarena.model.toon.Player Players}. */
+    public int getPlayerCount() {
+        return _names.size();
+    }
+
+    /** Get the name of the {@link nwarena.model.toon.Player Player} of {@code index}. */
+    public String getPlayerName(int index) {
+        return _names.get(index);
+    }
+
+    /** Get the {@link ClassType} of the {@link nwarena.model.toon.Player Player} of {@code index}. */
+    public ClassType getPlayerClass(int index) {
+        return _classes.get(index);
+    }
+
+    /** Get the amount of recorded actions. */
+    public int getActionCount() {
+        return _actionCount;
+    }
+
+    /** Get the {@link Action} of {@code index}. */
+    public Action getAction(int index) {
+        return ACTIONS[_actions[index]];
+    }
+
+    /** Get the coordinates of the action of {@code index}. Null for a rest. */
+    public Cell getCell(int index) {
+        if (_actions[index] == Action.REST.ordinal()) return null;
+        return Cell.of(_cells[index] & 0xFFFF, _cells[index] >>> 16);
+    }
+
+    /** Get the index of the recorded winner, or -1 if the match was unfinished. */
+    public int getWinner() {
+        return _winner;
+    }
+
+    /** Get the amount of recorded turns. */
+    public int getTurns() {
+        return _turns;
+    }
+
+}
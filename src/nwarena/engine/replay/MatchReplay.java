@@ -0,0 +1,142 @@
+package nwarena.engine.replay;
+
+import nwarena.engine.ArenaEngine;
+import nwarena.model.Cell;
+import nwarena.model.Dice;
+import nwarena.model.Game;
+import nwarena.model.MonsterAI;
+import nwarena.model.toon.Player;
+
+/**
+ * <h3> Match Replay - nwarena - Replay. </h3>
+ * Re-executes a {@link MatchRecording} headless, through an {@link ArenaEngine}, at full speed.
+ * <p>
+ *     The {@link Game} is rebuilt from the master seed and the setup of the recording, so it rolls the same
+ *     {@link nwarena.model.toon.Monster Monster} positions, swings and rests as the recorded match. Actions are
+ *     applied one at a time, through {@link #step()}, or all together, through {@link #run()}. An action the engine
+ *     rejects marks the replay as diverged, and stops it.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class MatchReplay {
+
+    private final MatchRecording _recording;
+    private final ArenaEngine _engine;
+    private int _next = 0;
+    private int _divergence = -1;
+
+    /**
+     * Initialize MatchReplay and start the match.
+     *
+     * @param recording  {@link MatchRecording} to replay.
+     */
+    public MatchReplay(MatchRecording recording) {
+        _recording = recording;
+        _engine = new ArenaEngine(newGame(recording));
+        _engine.setFastResolve(recording.getFastResolve());
+        _engine.start();
+    }
+
+    /**
+     * Build the {@link Game} of {@code recording}, with every {@link nwarena.model.Character Character} set on the
+     * map, as it was when the match started, and a {@link MonsterAI} if the match was recorded with one.
+     *
+     * @param recording  {@link MatchRecording} to rebuild.
+     *
+     * @return The new {@link Game}.
+     */
+    public static Game newGame(MatchRecording recording) {
+        Game game = new Game(new Dice(recording.getSeed()), recording.getMapWidth(), recording.getMapHeight());
+        for (int cnt = 0; cnt < recording.getPlayerCount(); cnt++)
+            game.addPlayer(recording.getPlayerName(cnt), recording.getPlayerClass(cnt));
+        for (int cnt = 0; cnt < recording.getMonsterCount(); cnt++) game.addMonster();
+        game.initializeCharactersPosition();
+        if (recording.getMonsterAI()) game.setMonsterAI(new MonsterAI());
+        return game;
+    }
+
+    /**
+     * Apply the next recorded action.
+     *
+     * @return False, if there are no more actions, or the action was rejected.
+     */
+    public boolean step() {
+        if (_divergence >= 0 || _next == _recording.getActionCount()) return false;
+        Cell cell = _recording.getCell(_next);
+        boolean played = switch (_recording.getAction(_next)) {
+            case REST -> _engine.rest();
+            case MOVE -> _engine.move(cell);
+            case ATTACK -> _engine.attack(cell) != null;
+        };
+        if (!played) {
+            _divergence = _next;
+            return false;
+        }
+        _next++;
+        return true;
+    }
+
+    /**
+     * Apply every remaining recorded action.
+     *
+     * @return This replay.
+     */
+    public MatchReplay run() {
+        while (step()) {
+            // Every action is applied by step().
+        }
+        return this;
+    }
+
+    /**
+     * Check if the replay reproduced the recorded match: every action was accepted, and the winner and the amount
+     * of turns are the recorded ones.
+     *
+     * @return True, if the replay matches the recording.
+     */
+    public boolean matches() {
+        return _divergence < 0 && _next == _recording.getActionCount()
+                && getWinner() == _recording.getWinner() && getTurns() == _recording.getTurns();
+    }
+
+    /**
+     * Get the index of the action which the engine rejected.
+     *
+     * @return Index of the action, or -1 if no action was rejected.
+     */
+    public int getDivergence() {
+        return _divergence;
+    }
+
+    /**
+     * Get the index of the winning {@link Player}.
+     *
+     * @return Index of the winner, or -1 if the match is not over.
+     */
+    public int getWinner() {
+        Player winner = _engine.getWinner();
+        return winner == null ? -1 : winner.getIndex();
+    }
+
+    /**
+     * Get the amount of turns replayed.
+     *
+     * @return Turns played.
+     */
+    public int getTurns() {
+        return _engine.getTurns();
+    }
+
+    /**
+     * Get the {@link ArenaEngine} of the replay.
+     *
+     * @return The engine.
+     */
+    public ArenaEngine getEngine() {
+        return _engine;
+    }
+
+}
@@ -0,0 +1,150 @@
+package nwarena.engine.replay;
+
+import nwarena.engine.ArenaEngine;
+import nwarena.engine.GreedyPolicy;
+import nwarena.engine.TurnPolicy;
+import nwarena.model.Cell;
+import nwarena.model.ClassStats;
+import nwarena.model.Dice;
+import nwarena.model.Game;
+import nwarena.model.toon.ClassType;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <h3> Replay Tool - nwarena - Replay. </h3>
+ * Command line entry point for {@link MatchRecording MatchRecordings}.
+ * <ul>
+ *     <li>{@code <file|directory>} replays a recording, or every recording of a directory, headless, and checks it
+ *     against the recorded outcome. The exit code is 1 if any recording didn't match, so a directory of recordings
+ *     serves as a regression corpus.</li>
+ *     <li>{@code --ui <file>} replays a recording on the Arena, in real time.</li>
+ *     <li>{@code --record <directory> [matches] [monsters] [seed]} plays headless matches with a
+ *     {@link GreedyPolicy} and saves their recordings.</li>
+ * </ul>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class ReplayTool {
+
+    private ReplayTool() {
+    }
+
+    /**
+     * Run the tool.
+     *
+     * @param args  The mode and its arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayTool <file|directory> | --ui <file> | --record <directory> [matches] [monsters] [seed]");
+            System.exit(2);
+        }
+        ClassStats.getDefault();
+        switch (args[0]) {
+            case "--ui" -> {
+                MatchRecording recording = MatchRecording.load(Path.of(args[1]));
+                SwingUtilities.invokeLater(() -> nwarena.controller.ArenaController.replay(recording));
+            }
+            case "--record" -> {
+                int matches = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+                int monsters = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+                long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+                record(Path.of(args[1]), matches, monsters, seed);
+            }
+            default -> System.exit(verify(Path.of(args[0])) ? 0 : 1);
+        }
+    }
+
+    /**
+     * Replay every recording on {@code path} headless, and print whether it matches.
+     *
+     * @param path  A recording, or a directory of recordings.
+     *
+     * @return True, if every recording matched.
+     *
+     * @throws IOException If a recording could not be read.
+     */
+    public static boolean verify(Path path) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> stream = Files.list(path)) {
+                files = stream.filter(file -> file.toString().endsWith(MatchRecording.EXTENSION)).sorted().toList();
+            }
+        } else files = List.of(path);
+        int failed = 0;
+        long start = System.nanoTime();
+        for (Path file : files) {
+            MatchRecording recording = MatchRecording.load(file);
+            MatchReplay replay = new MatchReplay(recording).run();
+            if (replay.matches()) System.out.printf("OK       %s%n", file.getFileName());
+            else {
+                failed++;
+                if (replay.getDivergence() >= 0)
+                    System.out.printf("DIVERGED %s - action %d of %d rejected%n", file.getFileName(),
+                            replay.getDivergence(), recording.getActionCount());
+                else
+                    System.out.printf("MISMATCH %s - winner %d in %d turns, recorded %d in %d turns%n",
+                            file.getFileName(), replay.getWinner(), replay.getTurns(),
+                            recording.getWinner(), recording.getTurns());
+            }
+        }
+        System.out.printf("%d recordings, %d failed (%d ms)%n", files.size(), failed,
+                (System.nanoTime() - start) / 1000000);
+        return failed == 0;
+    }
+
+    /**
+     * Play {@code matches} headless matches, between four {@link nwarena.model.toon.Player Players} of random
+     * {@link ClassType}, and save their recordings.
+     *
+     * @param directory  Directory to save to.
+     * @param matches  Amount of matches.
+     * @param monsters  Amount of {@link nwarena.model.toon.Monster Monsters} per match.
+     * @param seed  Seed from which the seed of every match is drawn.
+     *
+     * @throws IOException If a recording could not be saved.
+     */
+    public static void record(Path directory, int matches, int monsters, long seed) throws IOException {
+        Dice dice = new Dice(seed);
+        ClassType[] types = ClassType.values();
+        for (int match = 0; match < matches; match++) {
+            // Matches are played on a map of default size.
+            MatchRecording recording = new MatchRecording(dice.nextLong(), Game.DEFAULT_MAP_WIDTH,
+                    Game.DEFAULT_MAP_HEIGHT, monsters, false, false);
+            for (int cnt = 0; cnt < 4; cnt++) {
+                // Monster is not a playable class.
+                ClassType type;
+                do type = types[dice.roll(types.length) - 1]; while (type == ClassType.MONSTER);
+                recording.addPlayer(type.name() + " " + (cnt + 1), type);
+            }
+            ArenaEngine engine = new ArenaEngine(MatchReplay.newGame(recording));
+            TurnPolicy policy = new RecordingPolicy(new GreedyPolicy(), recording);
+            engine.playMatch(policy, 10000);
+            recording.setResult(engine.getWinner() == null ? -1 : engine.getWinner().getIndex(), engine.getTurns());
+            System.out.println(recording.save(directory));
+        }
+    }
+
+    /** {@link TurnPolicy} which records every action picked by another. */
+    private record RecordingPolicy(TurnPolicy policy, MatchRecording recording) implements TurnPolicy {
+
+        public Cell nextAction(ArenaEngine engine) {
+            Cell cell = policy.nextAction(engine);
+            if (cell == null) recording.record(MatchRecording.Action.REST, null);
+            else if (engine.getGame().getPlayerOnCoordinates(cell) != null || engine.getAliveMonster(cell) != null)
+                recording.record(MatchRecording.Action.ATTACK, cell);
+            else recording.record(MatchRecording.Action.MOVE, cell);
+            return cell;
+        }
+
+    }
+
+}
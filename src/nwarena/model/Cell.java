@@ -0,0 +1,75 @@
+package nwarena.model;
+
+/**
+ * <h3> Cell - nwarena. </h3>
+ * Immutable coordinates of a block on the {@link GameMap}.
+ * <p>
+ *     Cells are created through {@link #of(int, int)}, which returns a shared instance for every block of a map up
+ *     to {@value #CACHE_SIZE} by {@value #CACHE_SIZE} blocks, so moving a {@link Character} on such a map doesn't
+ *     allocate. {@link #OFF_MAP} marks a {@link Character} that is no longer on the map.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class Cell {
+
+    /** Amount of columns and rows covered by the shared instances. */
+    private static final int CACHE_SIZE = 64;
+    private static final Cell[] CACHE = new Cell[CACHE_SIZE * CACHE_SIZE];
+
+    static {
+        for (int y = 0; y < CACHE_SIZE; y++) {
+            for (int x = 0; x < CACHE_SIZE; x++) CACHE[y * CACHE_SIZE + x] = new Cell(x, y);
+        }
+    }
+
+    /** Coordinates of a {@link Character} outside the map. */
+    public static final Cell OFF_MAP = new Cell(-1, -1);
+
+    public final int x, y;
+
+    private Cell(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Get the Cell on ({@code x}, {@code y}).
+     *
+     * @param x  The x coordinate.
+     * @param y  The y coordinate.
+     *
+     * @return The Cell. Shared for coordinates between 0 and {@value #CACHE_SIZE}, {@link #OFF_MAP} for (-1, -1).
+     */
+    public static Cell of(int x, int y) {
+        if (x >= 0 && y >= 0 && x < CACHE_SIZE && y < CACHE_SIZE) return CACHE[y * CACHE_SIZE + x];
+        if (x == -1 && y == -1) return OFF_MAP;
+        return new Cell(x, y);
+    }
+
+    /**
+     * Get the amount of steps between this Cell and {@code other}, moving through surrounding blocks.
+     *
+     * @param other  Cell to measure to.
+     *
+     * @return The Chebyshev distance.
+     */
+    public int distance(Cell other) {
+        return Math.max(Math.abs(x - other.x), Math.abs(y - other.y));
+    }
+
+    public boolean equals(Object obj) {
+        return obj instanceof Cell cell && cell.x == x && cell.y == y;
+    }
+
+    public int hashCode() {
+        return 31 * x + y;
+    }
+
+    public String toString() {
+        return "(" + x + ", " + y + ")";
+    }
+
+}
@@ -4,112 +4,53 @@ import nwarena.model.toon.ClassType;
 import nwarena.model.toon.Monster;
 import nwarena.model.toon.Player;
 
-import java.awt.*;
-
 /** Character is an abstract, which {@link nwarena.model.toon.Monster Monster} and
  * {@link nwarena.model.toon.Player Player} are base on. It provides getters and setters
  * for all properties that are used on {@link Game}.
+ * <p>Starting stats are read from {@link ClassStats}.</p>
  * */
 public abstract class Character {
 
-    private boolean _isDead = false;
-    private int _health, _index;
-    private final int _abRounds, _restAmount, _ac, _ab;
-    private final int _healthLimit;
-    private Point _coordinates;
-    private final ClassType[] _prefClass = new ClassType[2];
+    /** Damage added to an Attack Roll against a preferred class. */
+    public static final int ADVANTAGE_BONUS = 5;
+
+    private final int _index;
+    private final CharacterStore _store;
+    private final int _slot;
     protected String name;
     public final ClassType Class;
 
     /**
-     * Initializes Character.
+     * Initializes Character, with its own {@link CharacterStore}.
      * @param type  {@link ClassType} of Character.
      * @param index  Unique index of character. ({@link nwarena.model.toon.Monster Monsters} always have index = -1)
      */
     public Character(ClassType type, int index) {
+        this(type, index, new CharacterStore(1));
+    }
+
+    /**
+     * Initializes Character, on a slot of {@code store}.
+     * @param type  {@link ClassType} of Character.
+     * @param index  Unique index of character. ({@link nwarena.model.toon.Monster Monsters} always have index = -1)
+     * @param store  {@link CharacterStore} which keeps the stats of the Character.
+     */
+    public Character(ClassType type, int index, CharacterStore store) {
         Class = type;
-        _index = index;
-        switch (type) {
-            case BARBARIAN -> {
-                _healthLimit = 300;
-                _health = 300;
-                _ac = 21;
-                _ab = 22;
-                _abRounds = 2;
-                _restAmount = 50;
-                _prefClass[0] = ClassType.FIGHTER;
-                _prefClass[1] = ClassType.PALEMASTER;
-            }
-            case FIGHTER -> {
-                _healthLimit = 260;
-                _health = 260;
-                _ac = 24;
-                _ab = 20;
-                _abRounds = 2;
-                _restAmount = 20;
-                _prefClass[0] = ClassType.PALADIN;
-                _prefClass[1] = ClassType.SORCERER;
-            }
-            case PALADIN -> {
-                _healthLimit = 220;
-                _health = 220;
-                _ac = 25;
-                _ab = 18;
-                _abRounds = 3;
-                _restAmount = 35;
-                _prefClass[0] = ClassType.BARBARIAN;
-                _prefClass[1] = ClassType.PALEMASTER;
-            }
-            case PALEMASTER -> {
-                _healthLimit = 200;
-                _health = 200;
-                _ac = 35;
-                _ab = 17;
-                _abRounds = 1;
-                _restAmount = 40;
-                _prefClass[0] = ClassType.PALADIN;
-                _prefClass[1] = ClassType.SORCERER;
-            }
-            case SORCERER -> {
-                _healthLimit = 175;
-                _health = 175;
-                _ac = 30;
-                _ab = 25;
-                _abRounds = 1;
-                _restAmount = 60;
-                _prefClass[0] = ClassType.FIGHTER;
-                _prefClass[1] = ClassType.BARBARIAN;
-            }
-            case MONSTER -> {
-                _index = -1;
-                _healthLimit = 100;
-                _health = 100;
-                _ac = 25;
-                _ab = 20;
-                _abRounds = 1;
-                _restAmount = 10;
-                _prefClass[0] = ClassType.MONSTER;
-                _prefClass[1] = ClassType.MONSTER;
-            }
-            default -> {
-                _healthLimit = 0;
-                _health = 0;
-                _ac = 0;
-                _ab = 0;
-                _abRounds = 0;
-                _restAmount = 0;
-                _prefClass[0] = ClassType.BARBARIAN;
-                _prefClass[1] = ClassType.BARBARIAN;
-            }
-        }
+        // Monsters always have index = -1.
+        _index = type == ClassType.MONSTER ? -1 : index;
+        _store = store;
+        ClassStats stats = ClassStats.getDefault();
+        _slot = store.add(type, stats.getHealthLimit(type), stats.getAC(type), stats.getAB(type),
+                stats.getAttackRounds(type), stats.getRestAmount(type));
     }
 
     /** Get the Health value bound.
      *
      * @return The Health Limit of the {@link Character}
      * */
-    protected int getHealthLimit() {
-        return _healthLimit;
+    public int getHealthLimit() {
+        return _store.getHealthLimit(_slot);
     }
 
     /** Get the Health replenishing amount during a rest.
@@ -117,16 +58,16 @@ public abstract class Character {
      * @return The rest amount of the {@link Character}
      * */
     protected int getRestAmount() {
-        return _restAmount;
+        return _store.getRestAmount(_slot);
     }
 
-    /** Set the coordinates, defined by {@code point}.
+    /** Set the coordinates, defined by {@code cell}.
      *
-     * @param point  {@link Point} acting as coordinates.
+     * @param cell  {@link Cell} acting as coordinates.
      *
      * */
-    protected void setCoordinates(Point point) {
-        _coordinates = point;
+    protected void setCoordinates(Cell cell) {
+        _store.setCell(_slot, cell);
     }
 
     /** Modify Health by {@code amount}.
@@ -134,11 +75,7 @@ public abstract class Character {
      * @param amount  The amount of health to alter.
      * */
     protected void modifyHealth(int amount) {
-        if (_health + amount > _healthLimit) _health = _healthLimit;
-        else if (_health + amount <= 0) {
-            _health = 0;
-            _isDead = true;
-        } else _health += amount;
+        _store.modifyHealth(_slot, amount);
     }
 
     /**
@@ -146,7 +83,7 @@ public abstract class Character {
      * @return True, if Health value is positive.
      */
     public boolean getIsDead() {
-        return _isDead;
+        return _store.getIsDead(_slot);
     }
 
     /**
@@ -154,7 +91,7 @@ public abstract class Character {
      * @return The Attack Bonus.
      */
     public int getAB() {
-        return _ab;
+        return _store.getAB(_slot);
     }
 
     /**
@@ -162,7 +99,7 @@ public abstract class Character {
      * @return The Attack Rounds.
      */
     public int getAttackRounds() {
-        return _abRounds;
+        return _store.getAttackRounds(_slot);
     }
 
     /**
@@ -170,7 +107,7 @@ public abstract class Character {
      * @return The AC.
      */
     public int getAC() {
-        return _ac;
+        return _store.getAC(_slot);
     }
 
     /**
@@ -178,7 +115,7 @@ public abstract class Character {
      * @return The AC.
      */
     public int getHealth() {
-        return _health;
+        return _store.getHealth(_slot);
     }
 
     /**
@@ -189,6 +126,14 @@ public abstract class Character {
         return _index;
     }
 
+    /**
+     * Get the slot of {@link Character} on its {@link CharacterStore}.
+     * @return The slot, unique among the {@link Character Characters} of the same store.
+     */
+    public int getSlot() {
+        return _slot;
+    }
+
     /**
      * Get the Name of {@link Character}.
      * @return The name of {@link Character}.
@@ -201,16 +146,25 @@ public abstract class Character {
      * Get the current Coordinates.
      * @return The coordinates of {@link Character}.
      */
-    public Point getCoordinates() {
-        return _coordinates;
+    public Cell getCoordinates() {
+        return _store.getCell(_slot);
     }
 
     /**
-     * Get the Class of {@link Character}.
-     * @return The {@link ClassType} of {@link Character}.
+     * Get the preferred classes of {@link Character}, against which it holds a Class advantage.
+     * @return A copy of the two preferred {@link ClassType ClassTypes}.
      */
     public ClassType[] getPreferredClass() {
-        return _prefClass;
+        return ClassStats.getDefault().getPreferredClass(Class);
+    }
+
+    /**
+     * Check if {@link Character} holds a Class advantage against {@code defender}.
+     * @param defender  {@link Character} to check.
+     * @return True, if the class of {@code defender} is a preferred class of {@link Character}.
+     */
+    public boolean hasAdvantage(Character defender) {
+        return ClassStats.getDefault().hasAdvantage(Class, defender.Class);
     }
 
     /**
@@ -219,12 +173,25 @@ public abstract class Character {
      * @implNote A Class, which extends {@link Character}, should implement its own {@code getAttackRoll()} method in
      * a unique way.
      * <p>
-     *     For example: {@link Monster}{@code .getAttackRoll()}, will always return a number between 5 and 20 plus AB.
-     *     On the other hand, {@link Player}{@code .getAttackRoll()}, can produce critical hits.
+     *     For example: {@link Monster}{@code .getAttackRoll(Dice)}, will always return a number between 5 and 20 plus AB.
+     *     On the other hand, {@link Player}{@code .getAttackRoll(Dice)}, can produce critical hits.
      * </p>
      *
+     * @param dice  {@link Dice} used to roll.
+     *
      * @return The amount of damage the {@link Character} is producing during an Attack Round.
      */
-    public abstract int getAttackRoll();
+    public abstract int getAttackRoll(Dice dice);
+
+    /**
+     * Check if {@code attackRoll}, returned by {@link #getAttackRoll(Dice)}, is a critical hit.
+     *
+     * @param attackRoll  Attack Roll to check.
+     *
+     * @return True, if the Attack Roll is a critical hit. {@link Character Characters} can't crit by default.
+     */
+    public boolean isCritical(int attackRoll) {
+        return false;
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package nwarena.model;
+
+import nwarena.model.toon.ClassType;
+
+import java.util.Arrays;
+
+/**
+ * <h3> Character Store - nwarena. </h3>
+ * Columnar storage of {@link Character} stats.
+ * <p>
+ *     Every {@link Character} owns a slot of a {@code CharacterStore}. Instead of one object per {@link Character},
+ *     each stat is kept in its own {@code int} array, indexed by slot, so sweeps over thousands of
+ *     {@link Character Characters}, such as counting the living, are tight loops over contiguous memory.
+ *     {@link Character} reads and writes its stats through its slot.
+ * </p>
+ *
+ * @implNote {@code CharacterStore} is not thread-safe. A {@link Game} owns one store for its
+ * {@link nwarena.model.toon.Player Players} and one for its {@link nwarena.model.toon.Monster Monsters}.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class CharacterStore {
+
+    private int _size = 0;
+    private int[] _health, _healthLimit, _ac, _ab, _rounds, _restAmount, _class;
+    /** Coordinates of every slot, kept as {@link Cell Cells} so reading them never allocates, whatever the map size. */
+    private Cell[] _cell;
+    private boolean[] _dead;
+
+    /**
+     * Initialize CharacterStore.
+     *
+     * @param capacity  Amount of slots to allocate. The store grows when full.
+     */
+    public CharacterStore(int capacity) {
+        capacity = Math.max(capacity, 1);
+        _health = new int[capacity];
+        _healthLimit = new int[capacity];
+        _ac = new int[capacity];
+        _ab = new int[capacity];
+        _rounds = new int[capacity];
+        _restAmount = new int[capacity];
+        _class = new int[capacity];
+        _cell = new Cell[capacity];
+        _dead = new boolean[capacity];
+    }
+
+    /**
+     * Add a slot.
+     *
+     * @param type  {@link ClassType} of the {@link Character}.
+     * @param healthLimit  Health Limit, which is also the starting Health.
+     * @param ac  AC.
+     * @param ab  Attack Bonus.
+     * @param rounds  Attack Rounds.
+     * @param restAmount  Health replenished during a rest.
+     *
+     * @return The new slot.
+     */
+    protected int add(ClassType type, int healthLimit, int ac, int ab, int rounds, int restAmount) {
+        if (_size == _health.length) grow();
+        int slot = _size++;
+        _health[slot] = healthLimit;
+        _healthLimit[slot] = healthLimit;
+        _ac[slot] = ac;
+        _ab[slot] = ab;
+        _rounds[slot] = rounds;
+        _restAmount[slot] = restAmount;
+        _class[slot] = type.ordinal();
+        _cell[slot] = null;
+        _dead[slot] = false;
+        return slot;
+    }
+
+    /**
+     * Modify Health of {@code slot} by {@code amount}, bound between zero and the Health Limit.
+     *
+     * @param slot  Slot to modify.
+     * @param amount  The amount of health to alter.
+     */
+    protected void modifyHealth(int slot, int amount) {
+        int health = _health[slot] + amount;
+        if (health > _healthLimit[slot]) _health[slot] = _healthLimit[slot];
+        else if (health <= 0) {
+            _health[slot] = 0;
+            _dead[slot] = true;
+        } else _health[slot] = health;
+    }
+
+    /**
+     * Set the coordinates of {@code slot}.
+     *
+     * @param slot  Slot to modify.
+     * @param cell  The coordinates.
+     */
+    protected void setCell(int slot, Cell cell) {
+        _cell[slot] = cell != null && (cell.x < 0 || cell.y < 0) ? Cell.OFF_MAP : cell;
+    }
+
+    /**
+     * Get the coordinates of {@code slot}.
+     *
+     * @param slot  Slot to check.
+     *
+     * @return The coordinates, or null if they were never set.
+     */
+    protected Cell getCell(int slot) {
+        return _cell[slot];
+    }
+
+    /** Get the Health of {@code slot}. */
+    protected int getHealth(int slot) {
+        return _health[slot];
+    }
+
+    /** Get the Health Limit of {@code slot}. */
+    protected int getHealthLimit(int slot) {
+        return _healthLimit[slot];
+    }
+
+    /** Get the AC of {@code slot}. */
+    protected int getAC(int slot) {
+        return _ac[slot];
+    }
+
+    /** Get the Attack Bonus of {@code slot}. */
+    protected int getAB(int slot) {
+        return _ab[slot];
+    }
+
+    /** Get the Attack Rounds of {@code slot}. */
+    protected int getAttackRounds(int slot) {
+        return _rounds[slot];
+    }
+
+    /** Get the Rest Amount of {@code slot}. */
+    protected int getRestAmount(int slot) {
+        return _restAmount[slot];
+    }
+
+    /** Check if the {@link Character} of {@code slot} is dead. */
+    protected boolean getIsDead(int slot) {
+        return _dead[slot];
+    }
+
+    /**
+     * Count the slots whose {@link Character} is alive.
+     *
+     * @return Amount of alive {@link Character Characters}.
+     */
+    public int countAlive() {
+        int cnt = 0;
+        for (int slot = 0; slot < _size; slot++) {
+            if (!_dead[slot]) cnt++;
+        }
+        return cnt;
+    }
+
+    /**
+     * Get the amount of slots.
+     *
+     * @return Amount of {@link Character Characters} in the store.
+     */
+    public int size() {
+        return _size;
+    }
+
+    private void grow() {
+        int capacity = _health.length * 2;
+        _health = Arrays.copyOf(_health, capacity);
+        _healthLimit = Arrays.copyOf(_healthLimit, capacity);
+        _ac = Arrays.copyOf(_ac, capacity);
+        _ab = Arrays.copyOf(_ab, capacity);
+        _rounds = Arrays.copyOf(_rounds, capacity);
+        _restAmount = Arrays.copyOf(_restAmount, capacity);
+        _class = Arrays.copyOf(_class, capacity);
+        _cell = Arrays.copyOf(_cell, capacity);
+        _dead = Arrays.copyOf(_dead, capacity);
+    }
+
+}
@@ -0,0 +1,225 @@
+package nwarena.model;
+
+import nwarena.model.toon.ClassType;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <h3> Class Stats - nwarena. </h3>
+ * Immutable table of the stats of every {@link ClassType}.
+ * <p>
+ *     The default table is loaded once, from the bundled {@value #RESOURCE} resource, or from the file named by the
+ *     {@value #PATH_PROPERTY} system property, so balance changes don't need a recompile. Every row is validated when
+ *     loaded. The Class advantages are precomputed into one bitmask per attacking {@link ClassType}, so checking an
+ *     advantage is a single array lookup.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class ClassStats {
+
+    /** Bundled resource with the default table. */
+    public static final String RESOURCE = "/stats/classes.csv";
+    /** System property which, if set, names a file to load instead of {@value #RESOURCE}. */
+    public static final String PATH_PROPERTY = "nwarena.classStats";
+
+    private final int[] _healthLimit, _ac, _ab, _rounds, _restAmount;
+    private final ClassType[][] _prefClass;
+    /** Bit {@code d} of {@code _advantage[a]} is set if class {@code a} holds an advantage against class {@code d}. */
+    private final int[] _advantage;
+
+    /** The default table, loaded on first use. */
+    private static volatile ClassStats _default;
+
+    private ClassStats(int[] healthLimit, int[] ac, int[] ab, int[] rounds, int[] restAmount, ClassType[][] prefClass) {
+        _healthLimit = healthLimit;
+        _ac = ac;
+        _ab = ab;
+        _rounds = rounds;
+        _restAmount = restAmount;
+        _prefClass = prefClass;
+        _advantage = new int[prefClass.length];
+        for (int cnt = 0; cnt < prefClass.length; cnt++) {
+            for (ClassType preferred : prefClass[cnt]) _advantage[cnt] |= 1 << preferred.ordinal();
+        }
+    }
+
+    /**
+     * Get the default table.
+     *
+     * @return The table loaded from {@value #PATH_PROPERTY}, or from {@value #RESOURCE}.
+     *
+     * @throws IllegalStateException If the table could not be read or is invalid.
+     */
+    public static ClassStats getDefault() {
+        ClassStats table = _default;
+        if (table == null) {
+            synchronized (ClassStats.class) {
+                if (_default == null) _default = loadDefault();
+                table = _default;
+            }
+        }
+        return table;
+    }
+
+    private static ClassStats loadDefault() {
+        String path = System.getProperty(PATH_PROPERTY);
+        try (InputStream stream = path != null ? new FileInputStream(path) : ClassStats.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) throw new IOException("Missing resource " + RESOURCE);
+            return load(stream);
+        } catch (IOException | IllegalArgumentException exc) {
+            throw new IllegalStateException("Could not load class stats.\n" + exc, exc);
+        }
+    }
+
+    /**
+     * Load a table.
+     * <p>
+     *     Each row holds: class, health, AC, AB, attack rounds, rest amount, first and second preferred class.
+     *     Values are separated by commas. Empty lines and lines starting with '#' are skipped. Every
+     *     {@link ClassType} must have exactly one row.
+     * </p>
+     *
+     * @param stream  {@link InputStream} to read. It is not closed.
+     *
+     * @return The table.
+     *
+     * @throws IOException If {@code stream} could not be read.
+     * @throws IllegalArgumentException If a row is invalid, or a {@link ClassType} is missing.
+     */
+    public static ClassStats load(InputStream stream) throws IOException {
+        int count = ClassType.values().length;
+        int[] healthLimit = new int[count], ac = new int[count], ab = new int[count], rounds = new int[count],
+                restAmount = new int[count];
+        ClassType[][] prefClass = new ClassType[count][];
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] values = line.split("\\s*,\\s*");
+            if (values.length != 8)
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected 8 values, found " + values.length);
+            int type = parseClass(values[0], lineNumber).ordinal();
+            if (prefClass[type] != null)
+                throw new IllegalArgumentException("Line " + lineNumber + ": duplicate class " + values[0]);
+            healthLimit[type] = parsePositive(values[1], lineNumber);
+            ac[type] = parsePositive(values[2], lineNumber);
+            ab[type] = parsePositive(values[3], lineNumber);
+            rounds[type] = parsePositive(values[4], lineNumber);
+            restAmount[type] = parsePositive(values[5], lineNumber);
+            prefClass[type] = new ClassType[]{parseClass(values[6], lineNumber), parseClass(values[7], lineNumber)};
+        }
+        for (ClassType type : ClassType.values()) {
+            if (prefClass[type.ordinal()] == null)
+                throw new IllegalArgumentException("Missing class " + type);
+        }
+        return new ClassStats(healthLimit, ac, ab, rounds, restAmount, prefClass);
+    }
+
+    private static int parsePositive(String value, int lineNumber) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) return number;
+        } catch (NumberFormatException ignored) {
+            // Reported below.
+        }
+        throw new IllegalArgumentException("Line " + lineNumber + ": expected a positive number, found " + value);
+    }
+
+    private static ClassType parseClass(String value, int lineNumber) {
+        try {
+            return ClassType.valueOf(value);
+        } catch (IllegalArgumentException exc) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unknown class " + value);
+        }
+    }
+
+    /**
+     * Check if {@code attacker} holds a Class advantage against {@code defender}.
+     *
+     * @param attacker  {@link ClassType} of the attacker.
+     * @param defender  {@link ClassType} of the defender.
+     *
+     * @return True, if {@code defender} is a preferred class of {@code attacker}.
+     */
+    public boolean hasAdvantage(ClassType attacker, ClassType defender) {
+        return (_advantage[attacker.ordinal()] & (1 << defender.ordinal())) != 0;
+    }
+
+    /**
+     * Get the Health Limit, which is also the starting Health, of {@code type}.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return The value of the table.
+     */
+    public int getHealthLimit(ClassType type) {
+        return _healthLimit[type.ordinal()];
+    }
+
+    /**
+     * Get the AC, of {@code type}.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return The value of the table.
+     */
+    public int getAC(ClassType type) {
+        return _ac[type.ordinal()];
+    }
+
+    /**
+     * Get the Attack Bonus, of {@code type}.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return The value of the table.
+     */
+    public int getAB(ClassType type) {
+        return _ab[type.ordinal()];
+    }
+
+    /**
+     * Get the amount of Attack Rounds, of {@code type}.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return The value of the table.
+     */
+    public int getAttackRounds(ClassType type) {
+        return _rounds[type.ordinal()];
+    }
+
+    /**
+     * Get the Health replenished during a rest, of {@code type}.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return The value of the table.
+     */
+    public int getRestAmount(ClassType type) {
+        return _restAmount[type.ordinal()];
+    }
+
+    /**
+     * Get the preferred classes of {@code type}.
+     *
+     * @param type  {@link ClassType} to check.
+     *
+     * @return A copy of the two preferred {@link ClassType ClassTypes}.
+     */
+    public ClassType[] getPreferredClass(ClassType type) {
+        return _prefClass[type.ordinal()].clone();
+    }
+
+}
@@ -0,0 +1,101 @@
+package nwarena.model;
+
+/**
+ * <h3> Dice - nwarena. </h3>
+ * Provides the die rolls of a {@link Game}.
+ * <p>
+ *     {@code Dice} is a SplitMix64 generator: a single {@code long} of state, advanced on every roll, so rolls
+ *     don't allocate and a whole {@link Game} can be replayed from its seed. {@code Dice} is not thread-safe;
+ *     each thread should roll its own instance, created through {@link #split()}.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class Dice {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long _state;
+
+    /** Initialize Dice with a random seed. */
+    public Dice() {
+        this(mix64(System.nanoTime()) ^ mix64(Thread.currentThread().getId() + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Initialize Dice with {@code seed}. Two instances with the same seed roll the same numbers.
+     *
+     * @param seed  The seed, or a state previously returned by {@link #getState()}.
+     */
+    public Dice(long seed) {
+        _state = seed;
+    }
+
+    /**
+     * Roll a die.
+     *
+     * @param sides  Amount of sides of the die.
+     *
+     * @return A number between 1 and {@code sides}.
+     */
+    public int roll(int sides) {
+        return nextInt(sides) + 1;
+    }
+
+    /**
+     * Get a number between 0 (inclusive) and {@code bound} (exclusive).
+     *
+     * @param bound  Upper bound. Must be positive.
+     *
+     * @return The next number.
+     */
+    public int nextInt(int bound) {
+        // Multiply-shift on 32 random bits. The bias is below bound / 2^32.
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Get a number between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return The next {@code double}, with 53 random bits.
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Get the next 64 random bits.
+     *
+     * @return The next {@code long}.
+     */
+    public long nextLong() {
+        return mix64(_state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * Create a new, independent Dice, seeded from this one.
+     *
+     * @return Dice to be used by another thread or task.
+     */
+    public Dice split() {
+        return new Dice(mix64(nextLong()));
+    }
+
+    /**
+     * Get the current state. Passing it to {@link #Dice(long)} continues with the same rolls.
+     *
+     * @return The current state.
+     */
+    public long getState() {
+        return _state;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
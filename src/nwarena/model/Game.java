@@ -1,8 +1,14 @@
 package nwarena.model;
 
+import nwarena.model.combat.DamageDistribution;
+import nwarena.model.combat.DamageTable;
+import nwarena.model.combat.FightOutcome;
+import nwarena.model.combat.FightResult;
+import nwarena.model.combat.FightSolver;
+import nwarena.model.event.CombatLog;
+import nwarena.model.event.EventType;
 import nwarena.model.toon.*;
 
-import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,26 +23,65 @@ import java.util.List;
  */
 public class Game {
 
+    /** Amount of columns on a map of default size. */
+    public static final int DEFAULT_MAP_WIDTH = GameMap.DEFAULT_WIDTH;
+    /** Amount of rows on a map of default size. */
+    public static final int DEFAULT_MAP_HEIGHT = GameMap.DEFAULT_HEIGHT;
+
     private Player _curPlayer;
     private final ArrayList<Player> _players;
     private final ArrayList<Monster> _monsters;
-    private GameMap _map;
+    private final CharacterStore _playerStore, _monsterStore;
+    private final GameMap _map;
+    private final Dice _dice;
+    private CombatLog _combatLog = null;
+    private MonsterAI _monsterAI = null;
 
-    /** Initialize Game. */
+    /** Initialize Game, with randomly seeded {@link Dice} and a map of default size. */
     public Game() {
+        this(new Dice());
+    }
+
+    /**
+     * Initialize Game, with a map of default size.
+     *
+     * @param dice  {@link Dice} used for every roll of the Game. A Game can be replayed by using {@link Dice}
+     *              with the same seed.
+     */
+    public Game(Dice dice) {
+        this(dice, DEFAULT_MAP_WIDTH, DEFAULT_MAP_HEIGHT);
+    }
+
+    /**
+     * Initialize Game.
+     *
+     * @param dice  {@link Dice} used for every roll of the Game. A Game can be replayed by using {@link Dice}
+     *              with the same seed.
+     * @param mapWidth  Amount of columns on the map, between 8 and 1000.
+     * @param mapHeight  Amount of rows on the map, between 8 and 1000.
+     */
+    public Game(Dice dice, int mapWidth, int mapHeight) {
         _players = new ArrayList<>();
         _monsters = new ArrayList<>();
-        _map = new GameMap();
+        _playerStore = new CharacterStore(4);
+        _monsterStore = new CharacterStore(32);
+        _map = new GameMap(mapWidth, mapHeight);
+        _dice = dice;
         _curPlayer = null;
     }
 
-    /** Initialize position of all {@link Character Characters} on {@link GameMap}. */
+    /**
+     * Initialize position of all {@link Character Characters} on {@link GameMap}.
+     *
+     * @implNote {@link Player Players} are set on the corners of the map, in the order they were added.
+     * Up to four {@link Player Players} are supported.
+     */
     public void initializeCharactersPosition() {
-        _map.setPlayerOnMap(_players.get(0), new Point(1, 1));
-        _map.setPlayerOnMap(_players.get(1), new Point(14, 1));
-        _map.setPlayerOnMap(_players.get(2), new Point(1, 11));
-        _map.setPlayerOnMap(_players.get(3), new Point(14, 11));
-        _map.setMonstersOnMap(_monsters);
+        Cell[] corners = {Cell.of(1, 1), Cell.of(_map.getWidth(), 1),
+                Cell.of(1, _map.getHeight()), Cell.of(_map.getWidth(), _map.getHeight())};
+        for (int cnt = 0; cnt < _players.size(); cnt++)
+            _map.setPlayerOnMap(_players.get(cnt), corners[cnt]);
+        _map.setMonstersOnMap(_monsters, _dice);
     }
 
     /**
@@ -46,7 +91,7 @@ public class Game {
      * be added <u>before</u> {@link #initializeCharactersPosition()} is called.
      */
     public void addMonster() {
-        _monsters.add(new Monster());
+        _monsters.add(new Monster(_monsterStore));
     }
 
     /**
@@ -59,29 +104,46 @@ public class Game {
      * @param classType  {@link ClassType} of {@link Player} to add.
      */
     public void addPlayer(String name, ClassType classType) {
-        _players.add(new Player(classType, name, _players.size()));
+        _players.add(new Player(classType, name, _players.size(), _playerStore));
     }
 
     /**
-     * Moves current active {@link Player} to specific coordinates, dictated by {@code point}.
+     * Moves current active {@link Player} to specific coordinates, dictated by {@code cell}.
      *
-     * @param point  Coordinates to move player.
+     * @param cell  Coordinates to move player.
      */
-    public void moveCurrentPlayer(Point point) {
-        _map.setPlayerOnMap(_curPlayer, point);
+    public void moveCurrentPlayer(Cell cell) {
+        _map.setPlayerOnMap(_curPlayer, cell);
+        publish(EventType.MOVE, _curPlayer, null, CombatLog.packCell(_curPlayer.getCoordinates()));
     }
 
     /**
-     * Moves {@link Player} defined by {@code playerIndex}, to specific coordinates dictated by {@code point}.
+     * Moves {@link Player} defined by {@code playerIndex}, to specific coordinates dictated by {@code cell}.
      *
      * @param playerIndex  Unique index of {@link Player}.
-     * @param point  Coordinates to move player.
+     * @param cell  Coordinates to move player.
+     */
+    public void movePlayer(int playerIndex, Cell cell) {
+        Player player = _players.get(playerIndex);
+        _map.setPlayerOnMap(player, cell);
+        publish(EventType.MOVE, player, null, CombatLog.packCell(player.getCoordinates()));
+    }
+
+    /**
+     * Moves {@link Monster} to specific coordinates, dictated by {@code cell}.
+     *
+     * @param monster  {@link Monster} to move.
+     * @param cell  Coordinates to move monster. Must be a block without an alive {@link Character}.
      */
-    public void movePlayer(int playerIndex, Point point) {
-        _map.setPlayerOnMap(_players.get(playerIndex), point);
+    public void moveMonster(Monster monster, Cell cell) {
+        _map.moveMonsterOnMap(monster, cell);
+        publish(EventType.MOVE, monster, null, CombatLog.packCell(monster.getCoordinates()));
     }
 
-    /** Sets next {@link Player} as the current one (if alive). */
+    /**
+     * Sets next {@link Player} as the current one (if alive).
+     * <p>If a {@link MonsterAI} is set, the {@link Monster Monsters} play their turn after the last {@link Player}.</p>
+     */
     public void nextPlayer() {
         // Check if this is the start of the game.
         if (_curPlayer == null) {
@@ -90,8 +152,11 @@ public class Game {
         }
         // Set CUR_PLAYER to next available player.
         do {
-            if (_curPlayer.getIndex() == 3) _curPlayer = _players.get(0);
-            else _curPlayer = _players.get(_curPlayer.getIndex() + 1);
+            if (_curPlayer.getIndex() == _players.size() - 1) {
+                // The round is over: monsters play.
+                if (_monsterAI != null) _monsterAI.playTurn(this);
+                _curPlayer = _players.get(0);
+            } else _curPlayer = _players.get(_curPlayer.getIndex() + 1);
         } while (_curPlayer.getIsDead());
     }
 
@@ -99,7 +164,9 @@ public class Game {
     public boolean restCurrentPlayer() {
         if (_curPlayer.getHealth() == _curPlayer.getHealthLimit())
             return false;
+        int health = _curPlayer.getHealth();
         _curPlayer.modifyHealth(_curPlayer.getRestAmount());
+        publish(EventType.REST, _curPlayer, null, _curPlayer.getHealth() - health);
         return true;
     }
 
@@ -113,36 +180,142 @@ public class Game {
      * @return The amount of damage inflicted on {@code defender}.
      */
     public int attackRound(Character offender, Character defender) {
-        int attackAmount = offender.getAttackRoll();
+        int attackAmount = offender.getAttackRoll(_dice);
+        boolean critical = offender.isCritical(attackAmount);
         // Versus a preferred class grants +5 damage.
-        if (offender.getPreferredClass()[0] == defender.Class || offender.getPreferredClass()[1] == defender.Class)
-            attackAmount += 5;
-        if (attackAmount > defender.getAC()) defender.modifyHealth(-attackAmount + defender.getAC());
+        if (offender.hasAdvantage(defender)) attackAmount += Character.ADVANTAGE_BONUS;
+        if (attackAmount > defender.getAC()) {
+            defender.modifyHealth(-attackAmount + defender.getAC());
+            publish(critical ? EventType.CRIT : EventType.ATTACK, offender, defender, attackAmount - defender.getAC());
+        } else publish(EventType.MISS, offender, defender, 0);
         return attackAmount - defender.getAC();
     }
 
+    /**
+     * Signals the start of a fight between {@code attacker} and {@code defender}.
+     *
+     * @param attacker  The {@link Character} who swings first.
+     * @param defender  The {@link Character} who gets attacked.
+     */
+    public void startFight(Character attacker, Character defender) {
+        // Inform of potential attack bonuses.
+        if (attacker.hasAdvantage(defender)) publish(EventType.ADVANTAGE, attacker, defender, 0);
+        else if (defender.hasAdvantage(attacker)) publish(EventType.ADVANTAGE, defender, attacker, 0);
+    }
+
+    /**
+     * Signals the end of a fight, won by {@code winner}.
+     *
+     * @param winner  The {@link Character} who is still alive.
+     * @param loser  The {@link Character} who is dead.
+     */
+    public void endFight(Character winner, Character loser) {
+        publish(EventType.KILL, winner, loser, winner.getHealth());
+    }
+
+    /**
+     * Get the damage distribution of a single Attack Round, without rolling.
+     *
+     * @param offender  Attacker {@link Character}.
+     * @param defender  Defender {@link Character}.
+     *
+     * @return The precomputed {@link DamageDistribution} of {@link #attackRound(Character, Character)}.
+     */
+    public DamageDistribution getDamageDistribution(Character offender, Character defender) {
+        return DamageTable.getDefault().get(offender.Class, defender.Class);
+    }
+
+    /**
+     * Get the exact outcome of a fight, from the current Health of both sides, without rolling.
+     *
+     * @param attacker  The {@link Character} who swings first.
+     * @param defender  The {@link Character} who gets attacked.
+     *
+     * @return The {@link FightOutcome} of the fight.
+     */
+    public FightOutcome predictFight(Character attacker, Character defender) {
+        return FightSolver.getDefault().solve(attacker, defender);
+    }
+
+    /**
+     * Resolves a whole fight in one step, by drawing its final state from the exact outcome.
+     * <p>
+     *     The loser is left dead and the winner with the drawn Health, with the same probability as if every
+     *     Attack Round had been rolled.
+     * </p>
+     *
+     * @param attacker  The {@link Character} who swings first.
+     * @param defender  The {@link Character} who gets attacked.
+     *
+     * @return The {@link Character} who is still alive.
+     */
+    public Character resolveFight(Character attacker, Character defender) {
+        startFight(attacker, defender);
+        FightResult result = FightSolver.getDefault().sample(attacker, defender, _dice);
+        Character winner = result.attackerWon() ? attacker : defender;
+        Character loser = result.attackerWon() ? defender : attacker;
+        loser.modifyHealth(-loser.getHealth());
+        winner.modifyHealth(result.remainingHealth() - winner.getHealth());
+        endFight(winner, loser);
+        return winner;
+    }
+
     /**
      * Checks the amount of {@link Player Players} that have a positive amount of HP.
      *
      * @return The amount of players currently alive.
      */
     public int getAlivePlayers() {
-        int cnt = 0;
-        for (Player player : _players) {
-            if (!player.getIsDead()) cnt++;
-        }
-        return cnt;
+        return _playerStore.countAlive();
+    }
+
+    /**
+     * Checks the amount of {@link Monster Monsters} that have a positive amount of HP.
+     *
+     * @return The amount of monsters currently alive.
+     */
+    public int getAliveMonsters() {
+        return _monsterStore.countAlive();
     }
 
     /**
-     * Get the {@link Monster} on specific coordinates, defined by {@code point}.
+     * Get the {@link CharacterStore} which keeps the stats of all {@link Player Players}.
      *
-     * @param point  Specific {@link Point} to check.
+     * @return The {@link Player} store.
+     */
+    public CharacterStore getPlayerStore() {
+        return _playerStore;
+    }
+
+    /**
+     * Get the {@link CharacterStore} which keeps the stats of all {@link Monster Monsters}.
+     *
+     * @return The {@link Monster} store.
+     */
+    public CharacterStore getMonsterStore() {
+        return _monsterStore;
+    }
+
+    /**
+     * Get the {@link Monster} on specific coordinates, defined by {@code cell}.
+     *
+     * @param cell  Specific {@link Cell} to check.
      *
      * @return The {@link Monster} on coordinates.
      */
-    public Monster getMonsterOnCoordinates(Point point) {
-        return _map.getMonsterOnMap(point);
+    public Monster getMonsterOnCoordinates(Cell cell) {
+        return _map.getMonsterOnMap(cell);
+    }
+
+    /**
+     * Get every {@link Character} within {@code radius} blocks of {@code cell}.
+     *
+     * @param cell  Specific {@link Cell} at the center of the area.
+     * @param radius  Amount of blocks in each direction.
+     * @param result  {@link List} to add the {@link Character Characters} to.
+     */
+    public void getCharactersInRange(Cell cell, int radius, List<Character> result) {
+        _map.getCharactersInRange(cell, radius, result);
     }
 
     /**
@@ -166,20 +339,47 @@ public class Game {
     }
 
     /**
-     * Get the {@link Player} on specific coordinates, defined by {@code point}.
+     * Get the {@link Player} on specific coordinates, defined by {@code cell}.
      *
-     * @param point  Specific {@link Point} to check.
+     * @param cell  Specific {@link Cell} to check.
      *
      * @return The {@link Player} on coordinates.
      */
-    public Player getPlayerOnCoordinates(Point point) {
-        return _map.getPlayerOnMap(point);
+    public Player getPlayerOnCoordinates(Cell cell) {
+        return _map.getPlayerOnMap(cell);
+    }
+
+    /**
+     * Get the {@link Dice} used for every roll of the Game.
+     *
+     * @return The {@link Dice}.
+     */
+    public Dice getDice() {
+        return _dice;
+    }
+
+    /**
+     * Get the amount of columns on the {@link GameMap}.
+     *
+     * @return The width of the map.
+     */
+    public int getMapWidth() {
+        return _map.getWidth();
+    }
+
+    /**
+     * Get the amount of rows on the {@link GameMap}.
+     *
+     * @return The height of the map.
+     */
+    public int getMapHeight() {
+        return _map.getHeight();
     }
 
     /**
      * Get a {@link List} with all the {@link Player Players} in the Game.
      *
-     * @return {@link List} with four {@link Player Players}.
+     * @return {@link List} with all {@link Player Players} in the Game.
      */
     public List<Player> getPlayerList() {
         return _players;
@@ -194,4 +394,80 @@ public class Game {
         return _monsters;
     }
 
-}
\ No newline at end of file
+    /**
+     * Set the {@link CombatLog} which receives every event of the game.
+     *
+     * @param combatLog  The log, or null to stop publishing events.
+     */
+    public void setCombatLog(CombatLog combatLog) {
+        _combatLog = combatLog;
+    }
+
+    /**
+     * Get the {@link CombatLog} of the game.
+     *
+     * @return The log, or null if no log was set.
+     */
+    public CombatLog getCombatLog() {
+        return _combatLog;
+    }
+
+    /**
+     * Set the {@link MonsterAI} which plays the {@link Monster Monsters}.
+     *
+     * @param monsterAI  The AI, or null to keep every {@link Monster} on its block.
+     */
+    public void setMonsterAI(MonsterAI monsterAI) {
+        _monsterAI = monsterAI;
+    }
+
+    /**
+     * Get the {@link MonsterAI} of the game.
+     *
+     * @return The AI, or null if the {@link Monster Monsters} don't play.
+     */
+    public MonsterAI getMonsterAI() {
+        return _monsterAI;
+    }
+
+    /**
+     * Get the {@link Character} of an event.
+     *
+     * @param id  Id returned by {@link CombatLog#idOf(Character)}.
+     *
+     * @return The {@link Player} or {@link Monster} of {@code id}, or null for {@link CombatLog#NONE}.
+     */
+    public Character getCharacter(int id) {
+        if (id == CombatLog.NONE) return null;
+        if (CombatLog.isMonster(id)) return _monsters.get(CombatLog.slotOf(id));
+        return _players.get(CombatLog.slotOf(id));
+    }
+
+    /**
+     * Set the current {@link Player}.
+     *
+     * @implNote Used by {@link GameSnapshot} to restore a Game.
+     *
+     * @param player  The {@link Player}, or null if the game has not started.
+     */
+    protected void setCurrentPlayer(Player player) {
+        _curPlayer = player;
+    }
+
+    /**
+     * Get the {@link GameMap}.
+     *
+     * @implNote Used by {@link GameSnapshot} to restore a Game.
+     *
+     * @return The map of the Game.
+     */
+    protected GameMap getMap() {
+        return _map;
+    }
+
+    /** Publish an event, if a {@link CombatLog} is set. */
+    private void publish(EventType type, Character actor, Character target, int value) {
+        if (_combatLog != null) _combatLog.publish(type, CombatLog.idOf(actor), CombatLog.idOf(target), value);
+    }
+
+}
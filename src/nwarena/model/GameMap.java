@@ -3,120 +3,252 @@ package nwarena.model;
 import nwarena.model.toon.Monster;
 import nwarena.model.toon.Player;
 
-import java.awt.*;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import java.util.List;
 
 /**
  * Provides setters and getters for the position of each {@link Player Player} and {@link Monster Monster} in the game.
+ * <p>
+ *     The map is split into square chunks of {@value #CHUNK_SIZE} by {@value #CHUNK_SIZE} blocks. A chunk's blocks
+ *     are only allocated once a {@link Character} is set on it, and every chunk counts its occupants, so large,
+ *     sparse maps stay small in memory and range queries skip empty chunks.
+ * </p>
  *
  * @implNote {@code GameMap} is a package-private class, and should only be used in {@link Game}.
  */
 class GameMap {
 
-    private HashMap<Character, Point> _charactersOnMap;
-    private HashMap<Monster, Point> _monstersOnMap;
-    private HashMap<Player, Point> _playersOnMap;
+    /** Default amount of columns on the map. */
+    protected static final int DEFAULT_WIDTH = 14;
+    /** Default amount of rows on the map. */
+    protected static final int DEFAULT_HEIGHT = 11;
+    /** Smallest amount of columns or rows on the map. */
+    protected static final int MIN_SIZE = 8;
+    /** Largest amount of columns or rows on the map. */
+    protected static final int MAX_SIZE = 1000;
+    /** Amount of columns and rows of a chunk. Must be a power of two. */
+    private static final int CHUNK_SIZE = 16;
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+    /** Size of the corner areas, where {@link Player Players} start and {@link Monster Monsters} don't spawn. */
+    private static final int CORNER_SIZE = 3;
 
-    /** Initialize GameMap. */
-    protected GameMap() {
-        _charactersOnMap = new HashMap<>();
-        _monstersOnMap = new HashMap<>();
-        _playersOnMap = new HashMap<>();
+    private final int _width, _height, _chunkColumns;
+    /** Occupant of every block, per chunk. Null if the chunk has never been occupied. */
+    private final Character[][] _chunks;
+    /** Amount of occupants, per chunk. */
+    private final int[] _chunkCounts;
+
+    /**
+     * Initialize GameMap.
+     *
+     * @param width  Amount of columns, between {@value #MIN_SIZE} and {@value #MAX_SIZE}.
+     * @param height  Amount of rows, between {@value #MIN_SIZE} and {@value #MAX_SIZE}.
+     */
+    protected GameMap(int width, int height) {
+        if (width < MIN_SIZE || height < MIN_SIZE || width > MAX_SIZE || height > MAX_SIZE)
+            throw new IllegalArgumentException("Map size must be between " + MIN_SIZE + " and " + MAX_SIZE + ": "
+                    + width + "x" + height);
+        _width = width;
+        _height = height;
+        _chunkColumns = ((width - 1) >> CHUNK_SHIFT) + 1;
+        int chunkRows = ((height - 1) >> CHUNK_SHIFT) + 1;
+        _chunks = new Character[_chunkColumns * chunkRows][];
+        _chunkCounts = new int[_chunkColumns * chunkRows];
     }
 
     /**
      * Set a {@link Player} on the map.
      *
+     * @implNote Coordinates outside the map are replaced by (-1, -1), which removes the {@link Player} from the map.
+     *
      * @param player  {@link Player} to set on map.
-     * @param point  {@link Point} to use as coordinates.
+     * @param cell  {@link Cell} to use as coordinates.
      */
-    protected void setPlayerOnMap(Player player, Point point) {
-        if (point.x > 14 || point.y > 11 || point.x < 1 || point.y < 1) point = new Point(-1, -1);
-        _charactersOnMap.remove(player);
-        _charactersOnMap.put(player, point);
-        _playersOnMap.remove(player);
-        _playersOnMap.put(player, point);
-        player.setCoordinates(point);
+    protected void setPlayerOnMap(Player player, Cell cell) {
+        if (!isOnMap(cell.x, cell.y)) cell = Cell.OFF_MAP;
+        // Free the previous block.
+        Cell previous = player.getCoordinates();
+        if (previous != null && isOnMap(previous.x, previous.y) && getCharacterOnMap(previous.x, previous.y) == player)
+            setOccupant(previous.x, previous.y, null);
+        if (isOnMap(cell.x, cell.y)) setOccupant(cell.x, cell.y, player);
+        player.setCoordinates(cell);
     }
 
     /**
      * Set {@link Monster Monsters} on the map.
      *
-     * @implNote A {@link Monster Monster's} position on the map is permanent. Therefore,
-     * {@code setMonstersOnMap} should only be called once.
+     * @implNote A {@link Monster Monster's} position only changes through {@link #moveMonsterOnMap}, when a
+     * {@link MonsterAI} plays. Therefore, {@code setMonstersOnMap} should only be called once.
      *
      * @param monsterList  {@link List} of {@link Monster Monsters} to set on map.
+     * @param dice  {@link Dice} used to pick random coordinates.
      */
-    protected void setMonstersOnMap(ArrayList<Monster> monsterList) {
-        Random rand = new Random();
+    protected void setMonstersOnMap(ArrayList<Monster> monsterList, Dice dice) {
+        // Monsters spawn on the first (width - 1) columns and (height - 1) rows, outside the corners.
+        int corners = (CORNER_SIZE * 2) * (CORNER_SIZE * 2 - 1);
+        if (monsterList.size() > (_width - 1) * (_height - 1) - corners)
+            throw new IllegalArgumentException("Too many monsters for a " + _width + "x" + _height + " map: "
+                    + monsterList.size());
         for (Monster monster : monsterList) {
-            Point point;
+            int x, y;
             do {
-                int x, y;
                 do {
-                    x = rand.nextInt(13) + 1;
-                    y = rand.nextInt(10) + 1;
-                } while ((x <= 3 || x >= 11) && (y <= 3 || y >= 9));
-                point = new Point(x, y);
-            } while (getCharacterOnMap(point) != null);
-            _charactersOnMap.put(monster, point);
-            _monstersOnMap.put(monster, point);
-            monster.setCoordinates(point);
+                    x = dice.nextInt(_width - 1) + 1;
+                    y = dice.nextInt(_height - 1) + 1;
+                } while ((x <= CORNER_SIZE || x >= _width - CORNER_SIZE)
+                        && (y <= CORNER_SIZE || y >= _height - CORNER_SIZE + 1));
+            } while (getCharacterOnMap(x, y) != null);
+            setOccupant(x, y, monster);
+            monster.setCoordinates(Cell.of(x, y));
         }
     }
 
     /**
-     * Get the {@link Character} on specific coordinates, defined by {@code point}.
+     * Set a {@link Monster} on the map, on known coordinates.
+     *
+     * @implNote Used to restore a saved {@link Game}, instead of {@link #setMonstersOnMap(ArrayList, Dice)}.
+     *
+     * @param monster  {@link Monster} to set on map.
+     * @param cell  {@link Cell} to use as coordinates. Must be a free block on the map.
+     */
+    protected void setMonsterOnMap(Monster monster, Cell cell) {
+        setOccupant(cell.x, cell.y, monster);
+        monster.setCoordinates(cell);
+    }
+
+    /**
+     * Move a {@link Monster} which is already on the map.
+     *
+     * @implNote Coordinates outside the map are replaced by (-1, -1), which removes the {@link Monster} from the map.
+     *
+     * @param monster  {@link Monster} to move.
+     * @param cell  {@link Cell} to use as coordinates. Must be a block without an alive {@link Character}.
+     */
+    protected void moveMonsterOnMap(Monster monster, Cell cell) {
+        if (!isOnMap(cell.x, cell.y)) cell = Cell.OFF_MAP;
+        // Free the previous block.
+        Cell previous = monster.getCoordinates();
+        if (isOnMap(previous.x, previous.y) && getCharacterOnMap(previous.x, previous.y) == monster)
+            setOccupant(previous.x, previous.y, null);
+        if (isOnMap(cell.x, cell.y)) setOccupant(cell.x, cell.y, monster);
+        monster.setCoordinates(cell);
+    }
+
+    /**
+     * Get the {@link Character} on specific coordinates, defined by {@code cell}.
      *
-     * @param point  {@link Point} to use as coordinates.
+     * @param cell  {@link Cell} to use as coordinates.
      *
      * @return  {@link Character} on coordinates.
      */
-    protected Character getCharacterOnMap(Point point) {
-        if (!_charactersOnMap.containsValue(point)) return null;
-        for (Map.Entry<Character, Point> entry : _charactersOnMap.entrySet()) {
-            if (entry.getValue().equals(point)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+    protected Character getCharacterOnMap(Cell cell) {
+        if (cell == null || !isOnMap(cell.x, cell.y)) return null;
+        return getCharacterOnMap(cell.x, cell.y);
     }
 
     /**
-     * Get the {@link Monster} on specific coordinates, defined by {@code point}.
+     * Get the {@link Monster} on specific coordinates, defined by {@code cell}.
      *
-     * @param point  {@link Point} to use as coordinates.
+     * @param cell  {@link Cell} to use as coordinates.
      *
      * @return  {@link Monster} on coordinates.
      */
-    protected Monster getMonsterOnMap(Point point) {
-        if (!_monstersOnMap.containsValue(point)) return null;
-        for (Map.Entry<Monster, Point> entry : _monstersOnMap.entrySet()) {
-            if (entry.getValue().equals(point)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+    protected Monster getMonsterOnMap(Cell cell) {
+        return getCharacterOnMap(cell) instanceof Monster monster ? monster : null;
     }
 
     /**
-     * Get the {@link Player} on specific coordinates, defined by {@code point}.
+     * Get the {@link Player} on specific coordinates, defined by {@code cell}.
      *
-     * @param point  {@link Point} to use as coordinates.
+     * @param cell  {@link Cell} to use as coordinates.
      *
      * @return  {@link Player} on coordinates.
      */
-    protected Player getPlayerOnMap(Point point) {
-        if (!_playersOnMap.containsValue(point)) return null;
-        for (Map.Entry<Player, Point> entry : _playersOnMap.entrySet()) {
-            if (entry.getValue().equals(point)) {
-                return entry.getKey();
+    protected Player getPlayerOnMap(Cell cell) {
+        return getCharacterOnMap(cell) instanceof Player player ? player : null;
+    }
+
+    /**
+     * Add every {@link Character} within {@code radius} blocks of {@code cell} to {@code result}.
+     *
+     * @implNote Chunks without occupants are skipped without visiting their blocks.
+     *
+     * @param cell  {@link Cell} at the center of the area.
+     * @param radius  Amount of blocks in each direction.
+     * @param result  {@link List} to add the {@link Character Characters} to.
+     */
+    protected void getCharactersInRange(Cell cell, int radius, List<Character> result) {
+        int xMin = Math.max(cell.x - radius, 1), xMax = Math.min(cell.x + radius, _width);
+        int yMin = Math.max(cell.y - radius, 1), yMax = Math.min(cell.y + radius, _height);
+        if (xMin > xMax || yMin > yMax) return;
+        for (int chunkY = (yMin - 1) >> CHUNK_SHIFT; chunkY <= (yMax - 1) >> CHUNK_SHIFT; chunkY++) {
+            for (int chunkX = (xMin - 1) >> CHUNK_SHIFT; chunkX <= (xMax - 1) >> CHUNK_SHIFT; chunkX++) {
+                int chunk = chunkY * _chunkColumns + chunkX;
+                if (_chunkCounts[chunk] == 0) continue;
+                // Visit the blocks of this chunk, inside the area.
+                int fromX = Math.max(xMin, (chunkX << CHUNK_SHIFT) + 1), toX = Math.min(xMax, (chunkX + 1) << CHUNK_SHIFT);
+                int fromY = Math.max(yMin, (chunkY << CHUNK_SHIFT) + 1), toY = Math.min(yMax, (chunkY + 1) << CHUNK_SHIFT);
+                for (int y = fromY; y <= toY; y++) {
+                    for (int x = fromX; x <= toX; x++) {
+                        Character character = _chunks[chunk][localIndexOf(x, y)];
+                        if (character != null) result.add(character);
+                    }
+                }
             }
         }
-        return null;
     }
 
-}
\ No newline at end of file
+    /**
+     * Get the amount of columns.
+     *
+     * @return The width of the map.
+     */
+    protected int getWidth() {
+        return _width;
+    }
+
+    /**
+     * Get the amount of rows.
+     *
+     * @return The height of the map.
+     */
+    protected int getHeight() {
+        return _height;
+    }
+
+    /**
+     * Check if ({@code x}, {@code y}) is on the map.
+     *
+     * @param x  The x coordinate.
+     * @param y  The y coordinate.
+     *
+     * @return True, if the block exists.
+     */
+    protected boolean isOnMap(int x, int y) {
+        return x >= 1 && y >= 1 && x <= _width && y <= _height;
+    }
+
+    /** Get the occupant of a block, which must be on the map. */
+    private Character getCharacterOnMap(int x, int y) {
+        Character[] chunk = _chunks[chunkOf(x, y)];
+        return chunk == null ? null : chunk[localIndexOf(x, y)];
+    }
+
+    /** Set the occupant of a block, which must be on the map, allocating its chunk if needed. */
+    private void setOccupant(int x, int y, Character character) {
+        int chunk = chunkOf(x, y), index = localIndexOf(x, y);
+        if (_chunks[chunk] == null) _chunks[chunk] = new Character[CHUNK_SIZE * CHUNK_SIZE];
+        if (_chunks[chunk][index] != null) _chunkCounts[chunk]--;
+        if (character != null) _chunkCounts[chunk]++;
+        _chunks[chunk][index] = character;
+    }
+
+    private int chunkOf(int x, int y) {
+        return ((y - 1) >> CHUNK_SHIFT) * _chunkColumns + ((x - 1) >> CHUNK_SHIFT);
+    }
+
+    private static int localIndexOf(int x, int y) {
+        return (((y - 1) & (CHUNK_SIZE - 1)) << CHUNK_SHIFT) | ((x - 1) & (CHUNK_SIZE - 1));
+    }
+
+}
@@ -0,0 +1,250 @@
+package nwarena.model;
+
+import nwarena.model.toon.ClassType;
+import nwarena.model.toon.Monster;
+import nwarena.model.toon.Player;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * <h3> Game Snapshot - nwarena. </h3>
+ * Compact, versioned binary snapshot of a {@link Game} in progress.
+ * <p>
+ *     A snapshot holds the state of the {@link Dice}, the size of the map, the current {@link Player}, whether
+ *     {@link Monster Monsters} play through a {@link MonsterAI}, and the Health and coordinates of every
+ *     {@link Character}. A restored {@link MonsterAI} has the default sight. Stats are not saved, since they are read from
+ *     {@link ClassStats} when the {@link Game} is restored. A default board takes a few hundred bytes.
+ * </p>
+ * <p>
+ *     Format, big-endian: magic {@value #MAGIC}, version, {@link Dice} state, map width and height, amount of
+ *     {@link Player Players}, index of the current {@link Player} (-1 if the game has not started), amount of
+ *     {@link Monster Monsters}, Monster AI flag. Then, for every {@link Player}, its name of up to {@value #MAX_NAME_LENGTH} UTF-8
+ *     bytes, {@link ClassType}, Health and coordinates, and for every {@link Monster}, its Health and coordinates.
+ *     Coordinates are packed as y &lt;&lt; 16 | x.
+ * </p>
+ *
+ * @implNote Snapshots are written and read through a buffer of at most {@value #BUFFER_SIZE} bytes, so large maps
+ * are streamed to and from the channel.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class GameSnapshot {
+
+    /** First bytes of every snapshot: "NWSV". */
+    public static final int MAGIC = 0x4E575356;
+    /** Version of the binary format. Version 1 had no Monster AI flag. */
+    public static final short VERSION = 2;
+    /** Upper bound of the buffer, in bytes. */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Size of the header, in bytes. */
+    private static final int HEADER_SIZE = 25;
+    /** Upper bound of the name of a {@link Player}, in UTF-8 bytes. */
+    private static final int MAX_NAME_LENGTH = 255;
+    /** Upper bound of the record of a {@link Player}, in bytes. */
+    private static final int MAX_PLAYER_SIZE = 1 + MAX_NAME_LENGTH + 9;
+    /** Packed value of coordinates that were never set. */
+    private static final int NO_CELL = Integer.MIN_VALUE;
+    /** Packed value of {@link Cell#OFF_MAP}. */
+    private static final int OFF_MAP = -1;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Write a snapshot of {@code game}.
+     *
+     * @param game  {@link Game} to save.
+     * @param channel  Channel to write to. It is not closed.
+     *
+     * @throws IOException If the channel could not be written.
+     */
+    public static void write(Game game, WritableByteChannel channel) throws IOException {
+        List<Player> players = game.getPlayerList();
+        List<Monster> monsters = game.getMonsterList();
+        long size = HEADER_SIZE + players.size() * (long) MAX_PLAYER_SIZE + monsters.size() * 8L;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, BUFFER_SIZE));
+        Player current = game.getCurrentPlayer();
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putLong(game.getDice().getState());
+        buffer.putShort((short) game.getMapWidth());
+        buffer.putShort((short) game.getMapHeight());
+        buffer.put((byte) players.size());
+        buffer.put((byte) (current == null ? -1 : current.getIndex()));
+        buffer.putInt(monsters.size());
+        buffer.put((byte) (game.getMonsterAI() == null ? 0 : 1));
+        for (Player player : players) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            if (name.length > MAX_NAME_LENGTH) throw new IOException("Name too long: " + player.getName());
+            reserve(buffer, channel, MAX_PLAYER_SIZE);
+            buffer.put((byte) name.length);
+            buffer.put(name);
+            buffer.put((byte) player.Class.ordinal());
+            buffer.putInt(player.getHealth());
+            buffer.putInt(packCell(player.getCoordinates()));
+        }
+        for (Monster monster : monsters) {
+            reserve(buffer, channel, 8);
+            buffer.putInt(monster.getHealth());
+            buffer.putInt(packCell(monster.getCoordinates()));
+        }
+        flush(buffer, channel);
+    }
+
+    /**
+     * Read a snapshot, and restore its {@link Game}.
+     * <p>
+     *     The restored {@link Game} has no {@link nwarena.model.event.CombatLog CombatLog}. Its {@link Dice} continue
+     *     with the rolls the saved {@link Game} would have made.
+     * </p>
+     *
+     * @param channel  Channel to read. It is not closed.
+     *
+     * @return The restored {@link Game}.
+     *
+     * @throws IOException If the channel could not be read, or is not a valid snapshot.
+     */
+    public static Game read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+        require(buffer, channel, HEADER_SIZE);
+        if (buffer.getInt() != MAGIC) throw new IOException("Not a game snapshot");
+        short version = buffer.getShort();
+        if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+        long state = buffer.getLong();
+        int width = buffer.getShort(), height = buffer.getShort();
+        int playerCount = buffer.get(), current = buffer.get(), monsterCount = buffer.getInt();
+        boolean monsterAI = buffer.get() != 0;
+        if (width < GameMap.MIN_SIZE || height < GameMap.MIN_SIZE || width > GameMap.MAX_SIZE || height > GameMap.MAX_SIZE)
+            throw new IOException("Invalid map size " + width + "x" + height);
+        if (playerCount < 0 || current < -1 || current >= playerCount || monsterCount < 0
+                || monsterCount > width * height)
+            throw new IOException("Invalid snapshot header");
+        Game game = new Game(new Dice(state), width, height);
+        GameMap map = game.getMap();
+        ClassType[] types = ClassType.values();
+        for (int cnt = 0; cnt < playerCount; cnt++) {
+            require(buffer, channel, 1);
+            byte[] name = new byte[buffer.get() & 0xFF];
+            require(buffer, channel, name.length + 9);
+            buffer.get(name);
+            int type = buffer.get();
+            if (type < 0 || type >= types.length || types[type] == ClassType.MONSTER)
+                throw new IOException("Invalid class " + type);
+            game.addPlayer(new String(name, StandardCharsets.UTF_8), types[type]);
+            Player player = game.getPlayer(cnt);
+            restoreHealth(player, buffer.getInt());
+            Cell cell = unpackCell(buffer.getInt());
+            if (cell == null) continue;
+            if (map.getCharacterOnMap(cell) != null)
+                throw new IOException("Two characters on block " + cell);
+            map.setPlayerOnMap(player, cell);
+        }
+        for (int cnt = 0; cnt < monsterCount; cnt++) {
+            game.addMonster();
+            Monster monster = game.getMonsterList().get(cnt);
+            require(buffer, channel, 8);
+            restoreHealth(monster, buffer.getInt());
+            Cell cell = unpackCell(buffer.getInt());
+            // Dead monsters no longer occupy their block.
+            if (cell == null || monster.getIsDead()) monster.setCoordinates(cell);
+            else if (!map.isOnMap(cell.x, cell.y) || map.getCharacterOnMap(cell) != null)
+                throw new IOException("Invalid monster block " + cell);
+            else map.setMonsterOnMap(monster, cell);
+        }
+        game.setCurrentPlayer(current < 0 ? null : game.getPlayer(current));
+        if (monsterAI) game.setMonsterAI(new MonsterAI());
+        return game;
+    }
+
+    /**
+     * Save a snapshot of {@code game} to {@code file}.
+     *
+     * @implNote The snapshot is written next to {@code file}, then moved over it, so a crash during the save
+     * leaves the previous snapshot intact.
+     *
+     * @param game  {@link Game} to save.
+     * @param file  {@link Path} of the snapshot. Its directory is created if missing.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    public static void save(Game game, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(game, channel);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load a snapshot from {@code file}.
+     *
+     * @param file  {@link Path} of the snapshot.
+     *
+     * @return The restored {@link Game}.
+     *
+     * @throws IOException If the file could not be read, or is not a valid snapshot.
+     */
+    public static Game load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /** Set the Health of a new {@link Character} to {@code health}. */
+    private static void restoreHealth(Character character, int health) throws IOException {
+        if (health < 0 || health > character.getHealthLimit())
+            throw new IOException("Invalid health " + health + " of " + character.getName());
+        character.modifyHealth(health - character.getHealth());
+    }
+
+    /** Flush {@code buffer} to {@code channel}, if it has less than {@code bytes} remaining. */
+    private static void reserve(ByteBuffer buffer, WritableByteChannel channel, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) flush(buffer, channel);
+    }
+
+    /** Write every byte of {@code buffer} to {@code channel}, and clear it. */
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /** Read from {@code channel} till {@code buffer} has at least {@code bytes} remaining. */
+    private static void require(ByteBuffer buffer, ReadableByteChannel channel, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) return;
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) throw new EOFException("Truncated game snapshot");
+        }
+        buffer.flip();
+    }
+
+    private static int packCell(Cell cell) {
+        if (cell == null) return NO_CELL;
+        if (cell.x < 0 || cell.y < 0) return OFF_MAP;
+        return (cell.y << 16) | cell.x;
+    }
+
+    private static Cell unpackCell(int cell) {
+        if (cell == NO_CELL) return null;
+        if (cell == OFF_MAP) return Cell.OFF_MAP;
+        return Cell.of(cell & 0xFFFF, cell >>> 16);
+    }
+
+}
@@ -0,0 +1,228 @@
+package nwarena.model;
+
+import nwarena.model.toon.Monster;
+import nwarena.model.toon.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h3> Monster AI - nwarena. </h3>
+ * Plays the turn of every alive {@link Monster} of a {@link Game}, once per round, after the last {@link Player}.
+ * <p>
+ *     Every {@link Monster} scores its candidate actions with a utility function, and plays the best one:
+ *     <ul>
+ *         <li>Staying on its block scores 0.</li>
+ *         <li>A step to a free surrounding block scores the blocks it closes towards the closest {@link Player} in
+ *         sight, between -1 and 1.</li>
+ *         <li>An attack on a surrounding {@link Player} scores {@value #ATTACK_WEIGHT} times the share of the
+ *         {@link Player Player's} Health Limit it is expected to take, up to the whole remaining Health. A
+ *         {@link Monster} rarely wins a fight, but a swarm wears a {@link Player} down: a {@link Monster} next to a
+ *         {@link Player} attacks, as long as it can deal damage.</li>
+ *     </ul>
+ *     {@link Monster Monsters} without a {@link Player} within their sight stay on their block.
+ * </p>
+ * <p>
+ *     The turn is evaluated in bulk: the alive {@link Player Players} are gathered once per turn into arrays of
+ *     coordinates, and the {@link Monster Monsters} in sight of each are found through
+ *     {@link Game#getCharactersInRange}, which skips empty chunks of the map. {@link Monster Monsters} out of sight
+ *     are skipped with one check, before their distance is measured or their surrounding blocks are visited. The damage of an attack is estimated from the expected
+ *     damage of an Attack Round of each side, through {@link Game#getDamageDistribution}, instead of solving the
+ *     fight, whose cache rarely hits as Health changes. {@link Monster Monsters} play in order of index, each on the
+ *     map left by the previous one.
+ * </p>
+ * <p>
+ *     A {@link Monster} attacks first, and the fight is resolved through the {@link FightResolver}, if one is set,
+ *     or in one step, through {@link Game#resolveFight}. An {@link nwarena.engine.ArenaEngine ArenaEngine} sets
+ *     itself as the resolver, so the fights of {@link Monster Monsters} are counted and notified as any other.
+ *     The loser is moved outside the map. The turn ends as soon as one {@link Player} remains, who wins the match.
+ * </p>
+ *
+ * @implNote {@code MonsterAI} is not thread-safe, and should be set on one {@link Game} only. Its scoring rolls no
+ * {@link Dice}, so a game with a {@code MonsterAI} replays the same for the same seed.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class MonsterAI {
+
+    /** Default amount of blocks, in each direction, a {@link Monster} sees. */
+    public static final int DEFAULT_SIGHT = 5;
+    /** Weight of an attack, against a step of one block. */
+    private static final int ATTACK_WEIGHT = 2;
+
+    private final int _sight;
+    // Alive players on the map, gathered once per turn.
+    private Player[] _players = new Player[4];
+    private int[] _playerX = new int[4], _playerY = new int[4];
+    private int _playerCount;
+    // Monsters in sight of a gathered player, by slot, and the result of each range query.
+    private boolean[] _inSight = new boolean[0];
+    private final List<Character> _inRange = new ArrayList<>();
+    private FightResolver _fightResolver = null;
+
+    /** Resolves the fights started by {@link Monster Monsters}. */
+    @FunctionalInterface
+    public interface FightResolver {
+
+        /**
+         * Resolve a fight, swing by swing or in one step.
+         *
+         * @param attacker  The {@link Monster} who attacks first.
+         * @param defender  The {@link Player} who gets attacked.
+         *
+         * @return The {@link Character} who won the fight.
+         */
+        Character resolve(Character attacker, Character defender);
+
+    }
+
+    /** Initialize MonsterAI, with a sight of {@value #DEFAULT_SIGHT} blocks. */
+    public MonsterAI() {
+        this(DEFAULT_SIGHT);
+    }
+
+    /**
+     * Initialize MonsterAI.
+     *
+     * @param sight  Amount of blocks, in each direction, a {@link Monster} sees.
+     */
+    public MonsterAI(int sight) {
+        if (sight < 1) throw new IllegalArgumentException("Sight must be positive: " + sight);
+        _sight = sight;
+    }
+
+    /**
+     * Play the turn of every alive {@link Monster} of {@code game}.
+     *
+     * @param game  {@link Game} whose {@link Monster Monsters} play.
+     */
+    public void playTurn(Game game) {
+        gatherPlayers(game.getPlayerList());
+        GameMap map = game.getMap();
+        List<Monster> monsters = game.getMonsterList();
+        markInSight(game, monsters.size());
+        for (int cnt = 0; cnt < monsters.size() && game.getAlivePlayers() > 1; cnt++) {
+            // Nothing in sight.
+            if (!_inSight[cnt]) continue;
+            Monster monster = monsters.get(cnt);
+            if (monster.getIsDead()) continue;
+            Cell position = monster.getCoordinates();
+            int distance = distanceToPlayers(position.x, position.y);
+            // The players in sight were defeated earlier in the turn.
+            if (distance > _sight) continue;
+            // Score the attack on each surrounding player.
+            Player target = null;
+            double bestScore = 0;
+            for (int player = 0; player < _playerCount; player++) {
+                if (Math.max(Math.abs(_playerX[player] - position.x), Math.abs(_playerY[player] - position.y)) != 1)
+                    continue;
+                Player defender = _players[player];
+                double score = ATTACK_WEIGHT * estimateDamage(game, monster, defender) / defender.getHealthLimit();
+                if (score > bestScore) {
+                    target = defender;
+                    bestScore = score;
+                }
+            }
+            // Score the step to each free surrounding block.
+            Cell step = null;
+            for (int x = position.x - 1; x <= position.x + 1; x++) {
+                for (int y = position.y - 1; y <= position.y + 1; y++) {
+                    if (!map.isOnMap(x, y) || (x == position.x && y == position.y)) continue;
+                    int score = distance - distanceToPlayers(x, y);
+                    if (score <= bestScore) continue;
+                    Character occupant = map.getCharacterOnMap(Cell.of(x, y));
+                    if (occupant != null && !occupant.getIsDead()) continue;
+                    step = Cell.of(x, y);
+                    target = null;
+                    bestScore = score;
+                }
+            }
+            if (target != null) attack(game, monster, target);
+            else if (step != null) game.moveMonster(monster, step);
+        }
+    }
+
+    /**
+     * Set the {@link FightResolver} of the fights started by {@link Monster Monsters}.
+     *
+     * @param resolver  The resolver, or null to resolve fights through {@link Game#resolveFight}.
+     */
+    public void setFightResolver(FightResolver resolver) {
+        _fightResolver = resolver;
+    }
+
+    /** Resolve the fight of {@code monster} against {@code player}, and move the loser outside the map. */
+    private void attack(Game game, Monster monster, Player player) {
+        Character winner = _fightResolver == null ? game.resolveFight(monster, player)
+                : _fightResolver.resolve(monster, player);
+        if (winner == monster) {
+            game.movePlayer(player.getIndex(), Cell.OFF_MAP);
+            // The player is no longer a target.
+            for (int cnt = 0; cnt < _playerCount; cnt++) {
+                if (_players[cnt] != player) continue;
+                _playerCount--;
+                _players[cnt] = _players[_playerCount];
+                _playerX[cnt] = _playerX[_playerCount];
+                _playerY[cnt] = _playerY[_playerCount];
+                break;
+            }
+        } else game.moveMonster(monster, Cell.OFF_MAP);
+    }
+
+    /**
+     * Estimate the Health {@code monster} takes from {@code player}, in a fight where {@code monster} swings first.
+     *
+     * @return Expected damage of a volley of {@code monster}, times the volleys it lives to swing, up to the Health
+     * of {@code player}.
+     */
+    private static double estimateDamage(Game game, Monster monster, Player player) {
+        double dealt = game.getDamageDistribution(monster, player).getExpectedDamage() * monster.getAttackRounds();
+        double taken = game.getDamageDistribution(player, monster).getExpectedDamage() * player.getAttackRounds();
+        if (dealt <= 0) return 0;
+        if (taken <= 0) return player.getHealth();
+        return Math.min(player.getHealth(), Math.ceil(monster.getHealth() / taken) * dealt);
+    }
+
+    /** Gather the coordinates of every alive {@link Player} on the map. */
+    private void gatherPlayers(List<Player> players) {
+        if (_players.length < players.size()) {
+            _players = new Player[players.size()];
+            _playerX = new int[players.size()];
+            _playerY = new int[players.size()];
+        }
+        _playerCount = 0;
+        for (Player player : players) {
+            Cell cell = player.getCoordinates();
+            if (player.getIsDead() || cell == null || cell.x < 1 || cell.y < 1) continue;
+            _players[_playerCount] = player;
+            _playerX[_playerCount] = cell.x;
+            _playerY[_playerCount] = cell.y;
+            _playerCount++;
+        }
+    }
+
+    /** Mark every {@link Monster} within sight of a gathered {@link Player}. */
+    private void markInSight(Game game, int monsterCount) {
+        if (_inSight.length < monsterCount) _inSight = new boolean[monsterCount];
+        else Arrays.fill(_inSight, false);
+        for (int cnt = 0; cnt < _playerCount; cnt++) {
+            _inRange.clear();
+            game.getCharactersInRange(Cell.of(_playerX[cnt], _playerY[cnt]), _sight, _inRange);
+            for (Character character : _inRange) {
+                if (character instanceof Monster monster) _inSight[monster.getSlot()] = true;
+            }
+        }
+    }
+
+    /** Get the distance from ({@code x}, {@code y}) to the closest gathered {@link Player}. */
+    private int distanceToPlayers(int x, int y) {
+        int distance = Integer.MAX_VALUE;
+        for (int cnt = 0; cnt < _playerCount; cnt++)
+            distance = Math.min(distance, Math.max(Math.abs(_playerX[cnt] - x), Math.abs(_playerY[cnt] - y)));
+        return distance;
+    }
+
+}
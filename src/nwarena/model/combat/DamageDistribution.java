@@ -0,0 +1,111 @@
+package nwarena.model.combat;
+
+import nwarena.model.Dice;
+
+/**
+ * Damage distribution of a single Attack Round, for one attacking and one defending
+ * {@link nwarena.model.toon.ClassType ClassType}.
+ * <p>
+ *     Every roll of the attacker is equally likely, so the distribution is kept as the damage of each roll.
+ *     Probabilities, the expected damage and sampling are all derived from it.
+ * </p>
+ *
+ * @implNote {@code DamageDistribution} is immutable.
+ */
+public final class DamageDistribution {
+
+    /** Damage of each equally likely roll. Zero on a miss. */
+    private final int[] _outcomes;
+    private final double[] _probability;
+    private final double _expectedDamage, _critChance;
+    private final int _critDamage;
+
+    /**
+     * Initialize DamageDistribution.
+     *
+     * @param outcomes  Damage of each equally likely roll. Zero on a miss.
+     * @param critOutcome  Index of the critical roll in {@code outcomes}, or -1 if the attacker can't crit.
+     */
+    DamageDistribution(int[] outcomes, int critOutcome) {
+        _outcomes = outcomes.clone();
+        int max = 0;
+        long sum = 0;
+        for (int damage : _outcomes) {
+            max = Math.max(max, damage);
+            sum += damage;
+        }
+        _probability = new double[max + 1];
+        for (int damage : _outcomes) _probability[damage] += 1.0 / _outcomes.length;
+        _expectedDamage = (double) sum / _outcomes.length;
+        _critChance = critOutcome < 0 ? 0 : 1.0 / _outcomes.length;
+        _critDamage = critOutcome < 0 ? 0 : _outcomes[critOutcome];
+    }
+
+    /**
+     * Get the probability of dealing exactly {@code damage}.
+     *
+     * @param damage  Amount of damage. Zero is a miss.
+     *
+     * @return Probability between 0 and 1.
+     */
+    public double getProbability(int damage) {
+        return damage < 0 || damage >= _probability.length ? 0 : _probability[damage];
+    }
+
+    /**
+     * Get the probability of a miss.
+     *
+     * @return Probability between 0 and 1.
+     */
+    public double getMissChance() {
+        return _probability[0];
+    }
+
+    /**
+     * Get the expected damage of an Attack Round, including misses.
+     *
+     * @return Expected damage.
+     */
+    public double getExpectedDamage() {
+        return _expectedDamage;
+    }
+
+    /**
+     * Get the probability of a critical hit.
+     *
+     * @return Probability between 0 and 1. Zero if the attacker can't crit.
+     */
+    public double getCritChance() {
+        return _critChance;
+    }
+
+    /**
+     * Get the damage of a critical hit.
+     *
+     * @return Damage of a critical hit. Zero if the attacker can't crit.
+     */
+    public int getCritDamage() {
+        return _critDamage;
+    }
+
+    /**
+     * Get the highest damage of an Attack Round.
+     *
+     * @return Highest damage.
+     */
+    public int getMaxDamage() {
+        return _probability.length - 1;
+    }
+
+    /**
+     * Roll an Attack Round, with a single roll of {@code dice}.
+     *
+     * @param dice  {@link Dice} used to roll.
+     *
+     * @return The damage dealt. Zero on a miss.
+     */
+    public int sample(Dice dice) {
+        return _outcomes[dice.nextInt(_outcomes.length)];
+    }
+
+}
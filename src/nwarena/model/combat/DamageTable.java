@@ -0,0 +1,100 @@
+package nwarena.model.combat;
+
+import nwarena.model.Character;
+import nwarena.model.ClassStats;
+import nwarena.model.toon.ClassType;
+import nwarena.model.toon.Monster;
+import nwarena.model.toon.Player;
+
+/**
+ * <h3> Damage Table - nwarena. </h3>
+ * Precomputed {@link DamageDistribution} of a single Attack Round, for every pair of attacking and defending
+ * {@link ClassType ClassTypes}.
+ * <p>
+ *     The table applies the same rules as {@link nwarena.model.Game#attackRound Game.attackRound}, through the
+ *     same methods: every roll of the die is turned into an Attack Roll by {@link Player#getAttackRoll(int, int)} or
+ *     {@link Monster#getAttackRoll(int, int)}, and {@link Player#ROLL_SIDES a roll of the highest side} is a
+ *     critical hit. A Class advantage adds {@value Character#ADVANTAGE_BONUS}, and the AC of the defender is
+ *     subtracted. Anything not above zero is a miss.
+ *     The AI and balance tooling can use the table to evaluate a fight without rolling every swing.
+ * </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class DamageTable {
+
+    private static volatile DamageTable _default;
+
+    private final DamageDistribution[][] _distributions;
+
+    /**
+     * Initialize DamageTable.
+     *
+     * @param stats  {@link ClassStats} to compute the table from.
+     */
+    public DamageTable(ClassStats stats) {
+        ClassType[] types = ClassType.values();
+        _distributions = new DamageDistribution[types.length][types.length];
+        for (ClassType attacker : types) {
+            for (ClassType defender : types) {
+                int advantage = stats.hasAdvantage(attacker, defender) ? Character.ADVANTAGE_BONUS : 0;
+                _distributions[attacker.ordinal()][defender.ordinal()] =
+                        compute(attacker, stats.getAB(attacker), advantage, stats.getAC(defender));
+            }
+        }
+    }
+
+    /**
+     * Get the table of the default {@link ClassStats}.
+     *
+     * @return The default table, computed on first use.
+     */
+    public static DamageTable getDefault() {
+        DamageTable table = _default;
+        if (table == null) {
+            synchronized (DamageTable.class) {
+                if (_default == null) _default = new DamageTable(ClassStats.getDefault());
+                table = _default;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Get the {@link DamageDistribution} of a single Attack Round.
+     *
+     * @param attacker  {@link ClassType} of the attacker.
+     * @param defender  {@link ClassType} of the defender.
+     *
+     * @return The precomputed distribution.
+     */
+    public DamageDistribution get(ClassType attacker, ClassType defender) {
+        return _distributions[attacker.ordinal()][defender.ordinal()];
+    }
+
+    /**
+     * Compute the damage of every equally likely roll.
+     *
+     * @param attacker  {@link ClassType} of the attacker.
+     * @param ab  AB of the attacker.
+     * @param advantage  Damage added by a Class advantage.
+     * @param ac  AC of the defender.
+     */
+    private static DamageDistribution compute(ClassType attacker, int ab, int advantage, int ac) {
+        if (attacker == ClassType.MONSTER) {
+            int[] outcomes = new int[Monster.MAX_ROLL - Monster.MIN_ROLL + 1];
+            for (int roll = Monster.MIN_ROLL; roll <= Monster.MAX_ROLL; roll++)
+                outcomes[roll - Monster.MIN_ROLL] = Math.max(Monster.getAttackRoll(ab, roll) + advantage - ac, 0);
+            return new DamageDistribution(outcomes, -1);
+        }
+        // A roll below a critical hit is drawn again among the other sides, so every side is equally likely.
+        // Critical hit: the advantage is added after the attack is doubled.
+        int[] outcomes = new int[Player.ROLL_SIDES];
+        for (int roll = 1; roll <= Player.ROLL_SIDES; roll++)
+            outcomes[roll - 1] = Math.max(Player.getAttackRoll(ab, roll) + advantage - ac, 0);
+        return new DamageDistribution(outcomes, Player.ROLL_SIDES - 1);
+    }
+
+}
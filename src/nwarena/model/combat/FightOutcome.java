@@ -0,0 +1,110 @@
+package nwarena.model.combat;
+
+/**
+ * Exact outcome of a fight between an attacker and a defender, as computed by {@link FightSolver}.
+ * <p>
+ *     Holds the probability of each side winning with each amount of remaining Health.
+ * </p>
+ *
+ * @implNote {@code FightOutcome} is immutable.
+ */
+public final class FightOutcome {
+
+    /** Probability of the attacker winning with each amount of Health, indexed by Health. */
+    private final double[] _attackerHealth;
+    /** Probability of the defender winning with each amount of Health, indexed by Health. */
+    private final double[] _defenderHealth;
+    private final double _attackerWinChance, _defenderWinChance;
+
+    /**
+     * Initialize FightOutcome.
+     *
+     * @param attackerHealth  Probability of the attacker winning with each amount of Health, indexed by Health.
+     * @param defenderHealth  Probability of the defender winning with each amount of Health, indexed by Health.
+     */
+    FightOutcome(double[] attackerHealth, double[] defenderHealth) {
+        _attackerHealth = attackerHealth;
+        _defenderHealth = defenderHealth;
+        double sum = 0;
+        for (int health = 1; health < attackerHealth.length; health++) sum += attackerHealth[health];
+        _attackerWinChance = sum;
+        sum = 0;
+        for (int health = 1; health < defenderHealth.length; health++) sum += defenderHealth[health];
+        _defenderWinChance = sum;
+    }
+
+    /**
+     * Get the probability of the attacker winning.
+     *
+     * @return Probability between 0 and 1.
+     */
+    public double getAttackerWinChance() {
+        return _attackerWinChance;
+    }
+
+    /**
+     * Get the probability of the defender winning.
+     *
+     * @return Probability between 0 and 1.
+     */
+    public double getDefenderWinChance() {
+        return _defenderWinChance;
+    }
+
+    /**
+     * Get the probability of the fight not being resolved, because neither side can deal damage to the other.
+     *
+     * @return Probability between 0 and 1. Below {@link FightSolver#EPSILON} for any fight that can end.
+     */
+    public double getUnresolvedChance() {
+        return Math.max(1 - _attackerWinChance - _defenderWinChance, 0);
+    }
+
+    /**
+     * Get the probability of the attacker winning with exactly {@code health} remaining.
+     *
+     * @param health  Remaining Health.
+     *
+     * @return Probability between 0 and 1.
+     */
+    public double getAttackerHealthChance(int health) {
+        return health < 1 || health >= _attackerHealth.length ? 0 : _attackerHealth[health];
+    }
+
+    /**
+     * Get the probability of the defender winning with exactly {@code health} remaining.
+     *
+     * @param health  Remaining Health.
+     *
+     * @return Probability between 0 and 1.
+     */
+    public double getDefenderHealthChance(int health) {
+        return health < 1 || health >= _defenderHealth.length ? 0 : _defenderHealth[health];
+    }
+
+    /**
+     * Get the expected remaining Health of the attacker, if it wins.
+     *
+     * @return Expected Health. Zero if the attacker can't win.
+     */
+    public double getExpectedAttackerHealth() {
+        return expectedHealth(_attackerHealth, _attackerWinChance);
+    }
+
+    /**
+     * Get the expected remaining Health of the defender, if it wins.
+     *
+     * @return Expected Health. Zero if the defender can't win.
+     */
+    public double getExpectedDefenderHealth() {
+        return expectedHealth(_defenderHealth, _defenderWinChance);
+    }
+
+    private static double expectedHealth(double[] healthChance, double winChance) {
+        if (winChance <= 0) return 0;
+        double sum = 0;
+        for (int health = 1; health < healthChance.length; health++) sum += health * healthChance[health];
+        return sum / winChance;
+    }
+
+}
@@ -0,0 +1,10 @@
+package nwarena.model.combat;
+
+/**
+ * Final state of a fight, drawn by {@link FightSolver#sample}.
+ *
+ * @param attackerWon  True, if the attacker won.
+ * @param remainingHealth  Health of the winner.
+ */
+public record FightResult(boolean attackerWon, int remainingHealth) {
+}
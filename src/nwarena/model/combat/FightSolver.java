@@ -0,0 +1,294 @@
+package nwarena.model.combat;
+
+import nwarena.model.Character;
+import nwarena.model.Dice;
+import nwarena.model.toon.ClassType;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h3> Fight Solver - nwarena. </h3>
+ * Computes the exact {@link FightOutcome} of a fight, without rolling a single swing.
+ * <p>
+ *     A fight alternates volleys: the attacker swings as many times as its Attack Rounds, then the defender, till one
+ *     of them is dead after a volley. A volley only lowers the Health of its target, so the Health of each side is a
+ *     Markov chain of its own, advanced by the volleys of the other side. The solver keeps the Health distribution of
+ *     both sides, volley by volley, and adds the probability of each side dying on a volley, times the Health
+ *     distribution of the other side at that moment, to the outcome. It stops once the probability of both sides
+ *     being alive is below {@value #EPSILON}.
+ * </p>
+ * <p>
+ *     Recent outcomes are cached. For bulk simulation, {@link #sample} doesn't need the whole outcome: it reads a
+ *     {@link KillTable} per pair of {@link ClassType ClassTypes}, computed once for every starting Health, so a fight
+ *     from any state costs one pass over its volleys instead of a solve.
+ * </p>
+ *
+ * @implNote {@code FightSolver} is thread-safe.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class FightSolver {
+
+    /** Probability of both sides being alive, below which the fight is considered resolved. */
+    public static final double EPSILON = 1e-12;
+    /** Upper bound of volleys, for fights where neither side can deal damage. */
+    private static final int MAX_VOLLEYS = 100000;
+    /** Amount of cached outcomes. */
+    private static final int CACHE_SIZE = 1024;
+
+    private static volatile FightSolver _default;
+
+    private final DamageTable _table;
+    private final Map<Long, FightOutcome> _cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<Long, FightOutcome> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    /** {@link KillTable} of every offending and target {@link ClassType}. Null till first used. */
+    private final KillTable[][] _killTables;
+
+    /**
+     * Initialize FightSolver.
+     *
+     * @param table  {@link DamageTable} of a single Attack Round.
+     */
+    public FightSolver(DamageTable table) {
+        _table = table;
+        _killTables = new KillTable[ClassType.values().length][ClassType.values().length];
+    }
+
+    /**
+     * Get the solver of the default {@link DamageTable}.
+     *
+     * @return The default solver, created on first use.
+     */
+    public static FightSolver getDefault() {
+        FightSolver solver = _default;
+        if (solver == null) {
+            synchronized (FightSolver.class) {
+                if (_default == null) _default = new FightSolver(DamageTable.getDefault());
+                solver = _default;
+            }
+        }
+        return solver;
+    }
+
+    /**
+     * Solve a fight between two {@link Character Characters}, from their current Health.
+     *
+     * @param attacker  The {@link Character} who swings first.
+     * @param defender  The {@link Character} who gets attacked.
+     *
+     * @return The exact {@link FightOutcome}.
+     */
+    public FightOutcome solve(Character attacker, Character defender) {
+        return solve(attacker.Class, attacker.getHealth(), attacker.getAttackRounds(),
+                defender.Class, defender.getHealth(), defender.getAttackRounds());
+    }
+
+    /**
+     * Solve a fight between two {@link ClassType ClassTypes}.
+     *
+     * @param attacker  {@link ClassType} of the side who swings first.
+     * @param attackerHealth  Health of the attacker.
+     * @param attackerRounds  Attack Rounds of the attacker.
+     * @param defender  {@link ClassType} of the side who gets attacked.
+     * @param defenderHealth  Health of the defender.
+     * @param defenderRounds  Attack Rounds of the defender.
+     *
+     * @return The exact {@link FightOutcome}.
+     */
+    public FightOutcome solve(ClassType attacker, int attackerHealth, int attackerRounds,
+                              ClassType defender, int defenderHealth, int defenderRounds) {
+        if (attackerHealth < 0 || defenderHealth < 0 || attackerRounds < 1 || defenderRounds < 1)
+            throw new IllegalArgumentException("Invalid fight: " + attackerHealth + " HP x" + attackerRounds
+                    + " vs " + defenderHealth + " HP x" + defenderRounds);
+        // Key: 3 bits per class, 8 bits per Attack Rounds, 20 bits per Health.
+        boolean cacheable = attackerHealth < (1 << 20) && defenderHealth < (1 << 20)
+                && attackerRounds < (1 << 8) && defenderRounds < (1 << 8);
+        long key = ((long) attacker.ordinal() << 61) | ((long) defender.ordinal() << 58)
+                | ((long) attackerRounds << 48) | ((long) defenderRounds << 40)
+                | ((long) attackerHealth << 20) | defenderHealth;
+        if (cacheable) {
+            synchronized (_cache) {
+                FightOutcome outcome = _cache.get(key);
+                if (outcome != null) return outcome;
+            }
+        }
+        FightOutcome outcome = compute(volley(_table.get(attacker, defender), attackerRounds), attackerHealth,
+                volley(_table.get(defender, attacker), defenderRounds), defenderHealth);
+        if (cacheable) {
+            synchronized (_cache) {
+                _cache.put(key, outcome);
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Draw the final state of a fight, from the current Health of both sides, without rolling every swing.
+     * <p>
+     *     The winner and the volley which ends the fight are drawn with a single roll, walking only the volleys the
+     *     fight can last. The Health of the winner is then drawn from its exact distribution, given it survived till
+     *     that volley.
+     * </p>
+     *
+     * @param attacker  The {@link Character} who swings first.
+     * @param defender  The {@link Character} who gets attacked.
+     * @param dice  {@link Dice} used to roll.
+     *
+     * @return The winner and its remaining Health.
+     *
+     * @throws IllegalStateException If neither side can deal damage to the other.
+     */
+    public FightResult sample(Character attacker, Character defender, Dice dice) {
+        int attackerHealth = attacker.getHealth(), defenderHealth = defender.getHealth();
+        if (attackerHealth == 0) return new FightResult(false, defenderHealth);
+        if (defenderHealth == 0) return new FightResult(true, attackerHealth);
+        KillTable onAttacker = getKillTable(defender, attacker), onDefender = getKillTable(attacker, defender);
+        if (onAttacker.getVolleys() == 0 && onDefender.getVolleys() == 0)
+            throw new IllegalStateException("Neither side can deal damage");
+        // Walk the volleys in order, till the roll is used up or both sides being alive is negligible.
+        double roll = dice.nextDouble();
+        int lastVolley = 0;
+        boolean lastAttackerWon = true;
+        for (int volley = 1; volley <= onAttacker.getVolleys() || volley <= onDefender.getVolleys(); volley++) {
+            double chance = getAttackerWinChance(onAttacker, attackerHealth, onDefender, defenderHealth, volley);
+            if (chance > 0) {
+                lastVolley = volley;
+                lastAttackerWon = true;
+                if ((roll -= chance) < 0) break;
+            }
+            chance = getDefenderWinChance(onAttacker, attackerHealth, onDefender, defenderHealth, volley);
+            if (chance > 0) {
+                lastVolley = volley;
+                lastAttackerWon = false;
+                if ((roll -= chance) < 0) break;
+            }
+            if ((1 - onAttacker.getDeadChance(attackerHealth, volley))
+                    * (1 - onDefender.getDeadChance(defenderHealth, volley)) < EPSILON) break;
+        }
+        // The attacker has survived the volleys before its winning one, the defender every volley of its round.
+        if (lastAttackerWon) return new FightResult(true, onAttacker.sampleSurvivor(attackerHealth, lastVolley - 1, dice));
+        return new FightResult(false, onDefender.sampleSurvivor(defenderHealth, lastVolley, dice));
+    }
+
+    /** Probability of the defender dying on the attacker's {@code volley}, with the attacker alive. */
+    private static double getAttackerWinChance(KillTable onAttacker, int attackerHealth,
+                                               KillTable onDefender, int defenderHealth, int volley) {
+        return (onDefender.getDeadChance(defenderHealth, volley) - onDefender.getDeadChance(defenderHealth, volley - 1))
+                * (1 - onAttacker.getDeadChance(attackerHealth, volley - 1));
+    }
+
+    /** Probability of the attacker dying on the defender's {@code volley}, with the defender alive. */
+    private static double getDefenderWinChance(KillTable onAttacker, int attackerHealth,
+                                               KillTable onDefender, int defenderHealth, int volley) {
+        return (onAttacker.getDeadChance(attackerHealth, volley) - onAttacker.getDeadChance(attackerHealth, volley - 1))
+                * (1 - onDefender.getDeadChance(defenderHealth, volley));
+    }
+
+    /**
+     * Get the {@link KillTable} of the volleys of {@code offender} against {@code target}.
+     *
+     * @implNote Tables cover every Health up to the Health Limit of {@code target}, and are computed once. A
+     * {@link KillTable} is immutable, so it is read without locking.
+     */
+    private KillTable getKillTable(Character offender, Character target) {
+        KillTable[] row = _killTables[offender.Class.ordinal()];
+        int column = target.Class.ordinal(), rounds = offender.getAttackRounds();
+        int maxHealth = Math.max(target.getHealthLimit(), target.getHealth());
+        KillTable table = row[column];
+        if (table != null && table.getRounds() == rounds && table.getMaxHealth() >= maxHealth) return table;
+        synchronized (_killTables) {
+            table = row[column];
+            if (table == null || table.getRounds() != rounds || table.getMaxHealth() < maxHealth) {
+                if (table != null && table.getRounds() == rounds) maxHealth = Math.max(maxHealth, table.getMaxHealth());
+                table = new KillTable(volley(_table.get(offender.Class, target.Class), rounds), rounds, maxHealth,
+                        MAX_VOLLEYS);
+                row[column] = table;
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Compute the damage distribution of a whole volley.
+     *
+     * @param swing  {@link DamageDistribution} of a single Attack Round.
+     * @param rounds  Amount of Attack Rounds.
+     *
+     * @return Probability of each total damage, indexed by damage.
+     */
+    private static double[] volley(DamageDistribution swing, int rounds) {
+        double[] total = {1};
+        for (int cnt = 0; cnt < rounds; cnt++) {
+            double[] next = new double[total.length + swing.getMaxDamage()];
+            for (int damage = 0; damage < total.length; damage++) {
+                if (total[damage] == 0) continue;
+                for (int hit = 0; hit <= swing.getMaxDamage(); hit++)
+                    next[damage + hit] += total[damage] * swing.getProbability(hit);
+            }
+            total = next;
+        }
+        return total;
+    }
+
+    private static FightOutcome compute(double[] attackerVolley, int attackerHealth,
+                                        double[] defenderVolley, int defenderHealth) {
+        // Health distribution of each side. Index zero is the probability of being dead.
+        double[] attacker = new double[attackerHealth + 1], defender = new double[defenderHealth + 1];
+        attacker[attackerHealth] = 1;
+        defender[defenderHealth] = 1;
+        double[] attackerWins = new double[attackerHealth + 1], defenderWins = new double[defenderHealth + 1];
+        // A dead side has lost before the fight starts.
+        if (defenderHealth == 0) {
+            attackerWins[attackerHealth] = attackerHealth == 0 ? 0 : 1;
+            return new FightOutcome(attackerWins, defenderWins);
+        }
+        if (attackerHealth == 0) {
+            defenderWins[defenderHealth] = 1;
+            return new FightOutcome(attackerWins, defenderWins);
+        }
+        // Neither side can ever end the fight.
+        if (attackerVolley[0] == 1 && defenderVolley[0] == 1) return new FightOutcome(attackerWins, defenderWins);
+        double[] buffer = new double[Math.max(attackerHealth, defenderHealth) + 1];
+        for (int volley = 0; volley < MAX_VOLLEYS; volley++) {
+            // Attacker's volley.
+            double killed = advance(defender, attackerVolley, buffer);
+            for (int health = 1; health <= attackerHealth; health++) attackerWins[health] += killed * attacker[health];
+            // Defender's volley.
+            killed = advance(attacker, defenderVolley, buffer);
+            for (int health = 1; health <= defenderHealth; health++) defenderWins[health] += killed * defender[health];
+            if ((1 - attacker[0]) * (1 - defender[0]) < EPSILON) break;
+        }
+        return new FightOutcome(attackerWins, defenderWins);
+    }
+
+    /**
+     * Advance the Health distribution of a side by a volley of the other side.
+     *
+     * @param health  Health distribution, updated in place.
+     * @param volley  Damage distribution of the volley.
+     * @param buffer  Scratch array, at least as long as {@code health}.
+     *
+     * @return The probability of the side dying on this volley.
+     */
+    private static double advance(double[] health, double[] volley, double[] buffer) {
+        Arrays.fill(buffer, 0, health.length, 0);
+        buffer[0] = health[0];
+        for (int current = 1; current < health.length; current++) {
+            double chance = health[current];
+            if (chance == 0) continue;
+            for (int damage = 0; damage < volley.length; damage++)
+                buffer[Math.max(current - damage, 0)] += chance * volley[damage];
+        }
+        double killed = buffer[0] - health[0];
+        System.arraycopy(buffer, 0, health, 0, health.length);
+        return killed;
+    }
+
+}
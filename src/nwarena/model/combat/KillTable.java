@@ -0,0 +1,130 @@
+package nwarena.model.combat;
+
+import nwarena.model.Dice;
+
+import java.util.Arrays;
+
+/**
+ * Probability of a target being dead after a number of volleys, for every starting Health of the target.
+ * <p>
+ *     A volley is every Attack Round of the offender, so a table belongs to one offending and one target
+ *     {@link nwarena.model.toon.ClassType ClassType}, and one amount of Attack Rounds. The table covers every
+ *     starting Health up to {@link #getMaxHealth()}, and enough volleys for the target to be dead with a probability
+ *     of at least 1 - {@value FightSolver#EPSILON}.
+ * </p>
+ *
+ * @implNote {@code KillTable} is immutable.
+ */
+final class KillTable {
+
+    /** Cumulative probability of each total damage of a volley, used to sample a volley. */
+    private final double[] _cumulative;
+    /** Probability of being dead, indexed by starting Health and by amount of volleys. */
+    private final double[][] _dead;
+    private final int _rounds, _volleys;
+
+    /**
+     * Initialize KillTable.
+     *
+     * @param volley  Probability of each total damage of a volley, indexed by damage.
+     * @param rounds  Attack Rounds of a volley.
+     * @param maxHealth  Highest starting Health of the target.
+     * @param maxVolleys  Upper bound of volleys.
+     */
+    KillTable(double[] volley, int rounds, int maxHealth, int maxVolleys) {
+        _rounds = rounds;
+        _cumulative = new double[volley.length];
+        double sum = 0;
+        for (int damage = 0; damage < volley.length; damage++) _cumulative[damage] = sum += volley[damage];
+        // Rows grow one volley at a time, so only the volleys that are needed are kept.
+        double[][] dead = new double[maxHealth + 1][16];
+        Arrays.fill(dead[0], 1);
+        int volleys = 0;
+        while (volleys < maxVolleys && dead[maxHealth][volleys] < 1 - FightSolver.EPSILON && volley[0] < 1) {
+            if (volleys + 1 == dead[0].length) {
+                for (int health = 0; health <= maxHealth; health++)
+                    dead[health] = Arrays.copyOf(dead[health], dead[health].length * 2);
+                Arrays.fill(dead[0], 1);
+            }
+            for (int health = 1; health <= maxHealth; health++) {
+                double chance = 0;
+                for (int damage = 0; damage < volley.length; damage++)
+                    chance += volley[damage] * dead[Math.max(health - damage, 0)][volleys];
+                dead[health][volleys + 1] = chance;
+            }
+            volleys++;
+        }
+        for (int health = 0; health <= maxHealth; health++) dead[health] = Arrays.copyOf(dead[health], volleys + 1);
+        _dead = dead;
+        _volleys = volleys;
+    }
+
+    /**
+     * Get the probability of the target being dead after {@code volleys}.
+     *
+     * @param health  Starting Health of the target, up to {@link #getMaxHealth()}.
+     * @param volleys  Amount of volleys.
+     *
+     * @return Probability between 0 and 1.
+     */
+    double getDeadChance(int health, int volleys) {
+        return _dead[health][Math.min(volleys, _volleys)];
+    }
+
+    /**
+     * Get the Attack Rounds of a volley.
+     *
+     * @return Attack Rounds of the offender.
+     */
+    int getRounds() {
+        return _rounds;
+    }
+
+    /**
+     * Get the amount of volleys covered by the table.
+     *
+     * @return Volleys after which the target is dead, from any starting Health.
+     */
+    int getVolleys() {
+        return _volleys;
+    }
+
+    /**
+     * Get the highest starting Health covered by the table.
+     *
+     * @return Highest Health.
+     */
+    int getMaxHealth() {
+        return _dead.length - 1;
+    }
+
+    /**
+     * Get the Health of a target that survives {@code volleys}, drawn from the exact distribution.
+     *
+     * @implNote Volleys are rolled till the target survives all of them. The expected amount of rolls is at most the
+     * expected amount of volleys of the fight.
+     *
+     * @param health  Starting Health of the target.
+     * @param volleys  Amount of volleys survived.
+     * @param dice  {@link Dice} used to roll.
+     *
+     * @return The remaining Health.
+     */
+    int sampleSurvivor(int health, int volleys, Dice dice) {
+        while (true) {
+            int remaining = health;
+            for (int cnt = 0; cnt < volleys && remaining > 0; cnt++) remaining -= sampleVolley(dice);
+            if (remaining > 0) return remaining;
+        }
+    }
+
+    /** Draw the total damage of a volley. */
+    private int sampleVolley(Dice dice) {
+        int damage = Arrays.binarySearch(_cumulative, dice.nextDouble() * _cumulative[_cumulative.length - 1]);
+        if (damage < 0) damage = Math.min(-damage - 1, _cumulative.length - 1);
+        // Skip damage of zero probability, which shares the cumulative value of its predecessor.
+        while (damage > 0 && _cumulative[damage] == _cumulative[damage - 1]) damage--;
+        return damage;
+    }
+
+}
@@ -0,0 +1,200 @@
+package nwarena.model.event;
+
+import nwarena.model.Cell;
+import nwarena.model.Character;
+import nwarena.model.toon.ClassType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h3> Combat Log - nwarena - Event. </h3>
+ * Bounded, lock-free ring buffer of typed combat events, published by a {@link nwarena.model.Game Game}.
+ * <p>
+ *     An event is an {@link EventType}, an actor, a target and a value, kept in one column per field, so publishing
+ *     an event doesn't allocate and no text is built. {@link Character Characters} are recorded as ids, through
+ *     {@link #idOf(Character)}. A consumer drains the events in batches, through {@link #drain}, and renders,
+ *     replays or counts them.
+ * </p>
+ *
+ * @implNote {@code CombatLog} supports one publishing and one draining thread. When the buffer is full, new
+ * events are dropped and counted, so the publisher never waits for the consumer.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+public final class CombatLog {
+
+    /** Id of a missing actor or target. */
+    public static final int NONE = -1;
+    /** Bit set on the id of a {@link nwarena.model.toon.Monster Monster}. */
+    private static final int MONSTER_BIT = 1 << 30;
+    /** Packed value of {@link Cell#OFF_MAP}. */
+    private static final int OFF_MAP = -1;
+    private static final EventType[] TYPES = EventType.values();
+
+    private final int _mask;
+    private final byte[] _type;
+    private final int[] _actor, _target, _value;
+    /** Sequence of the next event to drain. Written by the consumer only. */
+    private final AtomicLong _head = new AtomicLong();
+    /** Sequence of the next event to publish. Written by the publisher only. */
+    private final AtomicLong _tail = new AtomicLong();
+    private final AtomicLong _dropped = new AtomicLong();
+
+    /**
+     * Handles drained events.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Handle an event.
+         *
+         * @param type  {@link EventType} of the event.
+         * @param actor  Id of the actor.
+         * @param target  Id of the target, or {@link #NONE}.
+         * @param value  Value of the event, as defined by its {@link EventType}.
+         */
+        void onEvent(EventType type, int actor, int target, int value);
+
+    }
+
+    /**
+     * Initialize CombatLog.
+     *
+     * @param capacity  Amount of events kept till drained. Rounded up to a power of two.
+     */
+    public CombatLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        _mask = size - 1;
+        _type = new byte[size];
+        _actor = new int[size];
+        _target = new int[size];
+        _value = new int[size];
+    }
+
+    /**
+     * Publish an event.
+     *
+     * @param type  {@link EventType} of the event.
+     * @param actor  Id of the actor.
+     * @param target  Id of the target, or {@link #NONE}.
+     * @param value  Value of the event, as defined by its {@link EventType}.
+     *
+     * @return False, if the buffer is full and the event was dropped.
+     */
+    public boolean publish(EventType type, int actor, int target, int value) {
+        long tail = _tail.get();
+        if (tail - _head.get() > _mask) {
+            _dropped.incrementAndGet();
+            return false;
+        }
+        int index = (int) tail & _mask;
+        _type[index] = (byte) type.ordinal();
+        _actor[index] = actor;
+        _target[index] = target;
+        _value[index] = value;
+        // Release the event to the consumer.
+        _tail.lazySet(tail + 1);
+        return true;
+    }
+
+    /**
+     * Drain up to {@code maxEvents} events, in the order they were published.
+     *
+     * @param handler  {@link Handler} which receives every event.
+     * @param maxEvents  Upper bound of events to drain.
+     *
+     * @return The amount of drained events.
+     */
+    public int drain(Handler handler, int maxEvents) {
+        long head = _head.get();
+        int count = (int) Math.min(_tail.get() - head, maxEvents);
+        for (int cnt = 0; cnt < count; cnt++) {
+            int index = (int) (head + cnt) & _mask;
+            handler.onEvent(TYPES[_type[index]], _actor[index], _target[index], _value[index]);
+        }
+        // Release the slots to the publisher.
+        _head.lazySet(head + count);
+        return count;
+    }
+
+    /**
+     * Get the amount of events waiting to be drained.
+     *
+     * @return Amount of events.
+     */
+    public int size() {
+        return (int) (_tail.get() - _head.get());
+    }
+
+    /**
+     * Get the amount of events dropped, because the buffer was full.
+     *
+     * @return Amount of dropped events.
+     */
+    public long getDropped() {
+        return _dropped.get();
+    }
+
+    /**
+     * Get the id of {@code character}.
+     *
+     * @param character  {@link Character} to identify, or null.
+     *
+     * @return The slot of a {@link nwarena.model.toon.Player Player}, the slot of a
+     * {@link nwarena.model.toon.Monster Monster} marked as such, or {@link #NONE}.
+     */
+    public static int idOf(Character character) {
+        if (character == null) return NONE;
+        return character.Class == ClassType.MONSTER ? character.getSlot() | MONSTER_BIT : character.getSlot();
+    }
+
+    /**
+     * Check if {@code id} belongs to a {@link nwarena.model.toon.Monster Monster}.
+     *
+     * @param id  Id returned by {@link #idOf(Character)}.
+     *
+     * @return True, if {@code id} is the id of a {@link nwarena.model.toon.Monster Monster}.
+     */
+    public static boolean isMonster(int id) {
+        return id != NONE && (id & MONSTER_BIT) != 0;
+    }
+
+    /**
+     * Get the slot of {@code id}, on the {@link nwarena.model.CharacterStore CharacterStore} of its kind.
+     *
+     * @param id  Id returned by {@link #idOf(Character)}.
+     *
+     * @return The slot.
+     */
+    public static int slotOf(int id) {
+        return id & ~MONSTER_BIT;
+    }
+
+    /**
+     * Pack {@code cell} into the value of a {@link EventType#MOVE} event.
+     *
+     * @param cell  Coordinates to pack.
+     *
+     * @return The packed coordinates.
+     */
+    public static int packCell(Cell cell) {
+        if (cell.x < 0 || cell.y < 0) return OFF_MAP;
+        return (cell.y << 16) | cell.x;
+    }
+
+    /**
+     * Unpack the value of a {@link EventType#MOVE} event.
+     *
+     * @param value  Value returned by {@link #packCell(Cell)}.
+     *
+     * @return The coordinates.
+     */
+    public static Cell unpackCell(int value) {
+        if (value == OFF_MAP) return Cell.OFF_MAP;
+        return Cell.of(value & 0xFFFF, value >>> 16);
+    }
+
+}
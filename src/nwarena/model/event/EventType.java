@@ -0,0 +1,24 @@
+package nwarena.model.event;
+
+/**
+ * Types of the events of a {@link CombatLog}.
+ * <p>
+ *     The value of an event depends on its type.
+ * </p>
+ */
+public enum EventType {
+    /** A fight started, and the actor holds a Class advantage against the target. Value: zero. */
+    ADVANTAGE,
+    /** The actor hit the target. Value: damage dealt. */
+    ATTACK,
+    /** The actor hit the target with a critical hit. Value: damage dealt. */
+    CRIT,
+    /** The actor missed the target. Value: zero. */
+    MISS,
+    /** The actor won a fight against the target, who is dead. Value: remaining Health of the actor. */
+    KILL,
+    /** The actor moved, without a target. Value: coordinates, packed by {@link CombatLog#packCell}. */
+    MOVE,
+    /** The actor rested, without a target. Value: Health replenished. */
+    REST
+}
@@ -1,29 +1,59 @@
 package nwarena.model.toon;
 
 import nwarena.model.Character;
+import nwarena.model.CharacterStore;
+import nwarena.model.Dice;
 
 /**
  * <p>Provides an initialization method and an Attack Roll generator.</p>
  */
 public class Monster extends Character {
 
+    /** Lowest roll of an Attack Roll. */
+    public static final int MIN_ROLL = 5;
+    /** Highest roll of an Attack Roll. */
+    public static final int MAX_ROLL = 20;
+
     /** Initialize Monster.*/
     public Monster() {
         super(ClassType.MONSTER, -1);
         super.name = "Monster";
     }
 
+    /**
+     * Initialize Monster, on a slot of {@code store}.
+     *
+     * @param store  {@link CharacterStore} which keeps the stats of the Monster.
+     */
+    public Monster(CharacterStore store) {
+        super(ClassType.MONSTER, -1, store);
+        super.name = "Monster";
+    }
+
     /**
      * Get the Attack Roll of {@link Player}. To be used during an Attack Round.
      *
-     * @implNote A {@link java.util.Random Random} is used to emulate a die roll. {@link Monster Monsters} can only
-     * roll between numbers 5 and 20.
+     * @implNote {@link Monster Monsters} can only roll between numbers 5 and 20.
+     *
+     * @param dice  {@link Dice} of the {@link nwarena.model.Game Game}.
      *
      * @return The amount of damage the {@link Player} is producing during an Attack Round.
      */
-    public int getAttackRoll() {
-        java.util.Random rand = new java.util.Random();
-        return (getAB() + rand.nextInt(16) + 5);
+    public int getAttackRoll(Dice dice) {
+        return getAttackRoll(getAB(), dice.nextInt(MAX_ROLL - MIN_ROLL + 1) + MIN_ROLL);
+    }
+
+    /**
+     * Get the Attack Roll of a {@link Monster} for a roll. Shared with
+     * {@link nwarena.model.combat.DamageTable DamageTable}, which computes every roll without rolling.
+     *
+     * @param ab  AB of the {@link Monster}.
+     * @param roll  Roll between {@value #MIN_ROLL} and {@value #MAX_ROLL}.
+     *
+     * @return The amount of damage the {@link Monster} is producing during an Attack Round.
+     */
+    public static int getAttackRoll(int ab, int roll) {
+        return ab + roll;
     }
 
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package nwarena.model.toon;
 
 import nwarena.model.Character;
+import nwarena.model.CharacterStore;
+import nwarena.model.Dice;
 
 /**
  * <p>Provides an initialization method and an Attack Roll generator.</p>
  */
 public class Player extends Character {
 
+    /** Sides of the die of an Attack Roll. The highest side is a critical hit. */
+    public static final int ROLL_SIDES = 20;
+
     /**
      * Initialize Player.
      *
@@ -19,19 +24,61 @@ public class Player extends Character {
         super.name = name;
     }
 
+    /**
+     * Initialize Player, on a slot of {@code store}.
+     *
+     * @param type  The {@link ClassType Class Type}, which will define the player's stats.
+     * @param name  Name of new Player.
+     * @param index  Unique index of Player.
+     * @param store  {@link CharacterStore} which keeps the stats of the Player.
+     */
+    public Player(ClassType type, String name, int index, CharacterStore store) {
+        super(type, index, store);
+        super.name = name;
+    }
+
     /**
      * Get the Attack Roll of {@link Player}. To be used during an Attack Round.
      *
-     * @implNote A {@link java.util.Random Random} is used to emulate a die roll. If the generated int is 20,
-     * the overall damage is doubled.
+     * @implNote A d20 is rolled. If the roll is 20, the overall damage is doubled.
+     *
+     * @param dice  {@link Dice} of the {@link nwarena.model.Game Game}.
+     *
+     * @return The amount of damage the {@link Player} is producing during an Attack Round.
+     */
+    public int getAttackRoll(Dice dice) {
+        int roll = dice.roll(ROLL_SIDES);
+        // Below a critical hit, the roll is drawn again among the other sides.
+        return getAttackRoll(getAB(), roll == ROLL_SIDES ? roll : dice.roll(ROLL_SIDES - 1));
+    }
+
+    /**
+     * Get the Attack Roll of a {@link Player} for a roll of the die. Shared with
+     * {@link nwarena.model.combat.DamageTable DamageTable}, which computes every roll without rolling.
+     *
+     * @implNote A roll of {@value #ROLL_SIDES} is a critical hit, which doubles the overall damage.
+     *
+     * @param ab  AB of the {@link Player}.
+     * @param roll  Roll of the die, between 1 and {@value #ROLL_SIDES}.
      *
      * @return The amount of damage the {@link Player} is producing during an Attack Round.
      */
-    public int getAttackRoll() {
-        java.util.Random rand = new java.util.Random();
-        int roll = rand.nextInt(20) + 1;
-        if (roll == 20) return (getAB() + roll) * 2;
-        return (getAB() + rand.nextInt(19) + 1);
+    public static int getAttackRoll(int ab, int roll) {
+        if (roll == ROLL_SIDES) return (ab + roll) * 2;
+        return ab + roll;
+    }
+
+    /**
+     * Check if {@code attackRoll} is a critical hit.
+     *
+     * @implNote Only a roll of {@value #ROLL_SIDES} reaches (AB + {@value #ROLL_SIDES}) x 2.
+     *
+     * @param attackRoll  Attack Roll to check.
+     *
+     * @return True, if the Attack Roll is a critical hit.
+     */
+    public boolean isCritical(int attackRoll) {
+        return attackRoll == getAttackRoll(getAB(), ROLL_SIDES);
     }
 
 }
\ No newline at end of file
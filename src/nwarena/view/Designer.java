@@ -1,14 +1,18 @@
 package nwarena.view;
 
+import autorun.view.Assets;
+import autorun.view.SoundEffects;
+import autorun.view.MusicPlayer;
 import nwarena.controller.ArenaController;
+import nwarena.view.gamegridbutton.GameBoard;
 import nwarena.view.gamegridbutton.GameGridButton;
 
 import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
-import java.io.IOException;
-import java.util.Objects;
-import java.util.Random;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * <h3> Designer - nwarena. </h3>
@@ -22,33 +26,48 @@ import java.util.Random;
 public class Designer {
 
     private static int _backgroundMusicIndex = 0, _backgroundBattleMusicIndex = 0;
-    private static Clip _backgroundMusic;
-    private static Clip _soundEffect;
+    /** Streams the background and battle music. */
+    private static MusicPlayer _music;
+    private static SoundEffects _soundEffects;
     private static JFrame _nwarena;
     private static JLabel _lblPlayerName;
     private static JLabel _lblPlayerClass;
     private static JLabel _lblPlayerHP;
     private static JLabel _lblPlayerAC;
     private static JLabel _lblPlayerAB;
-    private static JTextArea _txtLog;
-    private static GameGridButton[][] _gameGridButtons;
+    private static JLabel _lblWinChance;
+    private static JList<String> _lstLog;
+    private static LogModel _logModel;
+    /** Upper bound of the lines kept by the log. */
+    private static final int LOG_LINES = 1000;
+    private static GameBoard _board;
+    private static GameGridButton _hoveredGridButton, _pressedGridButton;
+    /** Area of the {@link GameBoard}, in pixels: a Grid of 14x11 blocks. Larger Grids are scrolled. */
+    private static final int BOARD_WIDTH = 560, BOARD_HEIGHT = 440;
+    /** Renders the pending combat events, in batches. */
+    private static Timer _logTimer;
+    /** Delay between two batches of combat events, in milliseconds. */
+    private static final int LOG_INTERVAL = 100;
 
     /**
      * Initialization for JFrame, background music and SFX.
      * <p> Start music playback with the {@link #startBackgroundMusic(boolean) startBackgroundMusic} method. </p>
      * <p> Play SFX with the {@link #playSoundEffect() playSoundEffect} method. </p>
+     *
+     * @param gridWidth  Amount of {@link GameGridButton} columns.
+     * @param gridHeight  Amount of {@link GameGridButton} rows.
      */
-    public Designer() throws LineUnavailableException, UnsupportedAudioFileException, IOException {
-        // Clips and files.
-        _soundEffect = AudioSystem.getClip();
-        _backgroundMusic = AudioSystem.getClip();
-        _soundEffect.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(getClass().getResource("/mus/mus_click.wav"))));
+    public Designer(int gridWidth, int gridHeight) throws LineUnavailableException {
+        // SFX clip and music stream.
+        _soundEffects = SoundEffects.getShared();
+        _soundEffects.load("/mus/mus_click.wav");
+        _music = new MusicPlayer();
         // Initialize Arena JFrame.
-        initializeArena();
+        initializeArena(gridWidth, gridHeight);
     }
 
     /** Initialize JFrame and its components. */
-    private static void initializeArena() {
+    private static void initializeArena(int gridWidth, int gridHeight) {
         // JFrame visual properties.
         _nwarena = new JFrame("nwarena");
         _nwarena.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -57,8 +76,8 @@ public class Designer {
         _nwarena.setLocationRelativeTo(null);
         _nwarena.setUndecorated(true);
         _nwarena.setAlwaysOnTop(true);
-        _nwarena.setContentPane(new JLabel(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/img_gbackground.png")))));
-        _nwarena.setIconImage(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/icon.png"))).getImage());
+        _nwarena.setContentPane(new JLabel(Assets.getIcon("/img/img_gbackground.png")));
+        _nwarena.setIconImage(Assets.getImage("/icon.png"));
 
         // nwarena - Labels
         JLabel lblName = new JLabel("Player Name:");
@@ -66,11 +85,13 @@ public class Designer {
         JLabel lblHP = new JLabel("HP:");
         JLabel lblAC = new JLabel("AC:");
         JLabel lblAttackBonus = new JLabel("Attack Bonus:");
+        JLabel lblWinChance = new JLabel("Win Chance:");
         _lblPlayerName = new JLabel();
         _lblPlayerClass = new JLabel();
         _lblPlayerHP = new JLabel();
         _lblPlayerAC = new JLabel();
         _lblPlayerAB = new JLabel();
+        _lblWinChance = new JLabel();
 
         lblName.setBounds(620, 40, 100, 24);
         lblName.setForeground(Color.lightGray);
@@ -82,6 +103,8 @@ public class Designer {
         lblAC.setForeground(Color.lightGray);
         lblAttackBonus.setBounds(620, 220, 200, 24);
         lblAttackBonus.setForeground(Color.lightGray);
+        lblWinChance.setBounds(620, 265, 200, 24);
+        lblWinChance.setForeground(Color.lightGray);
         _lblPlayerName.setBounds(630, 55, 200, 24);
         _lblPlayerName.setForeground(Color.lightGray);
         _lblPlayerClass.setBounds(630, 100, 200, 24);
@@ -92,24 +115,48 @@ public class Designer {
         _lblPlayerAC.setForeground(Color.lightGray);
         _lblPlayerAB.setBounds(630, 235, 200, 24);
         _lblPlayerAB.setForeground(Color.lightGray);
+        _lblWinChance.setBounds(630, 280, 200, 24);
+        _lblWinChance.setForeground(Color.lightGray);
 
-        // nwarena - Grid Buttons
-        _gameGridButtons = new GameGridButton[14][11];
-        for (int cnt1 = 40; cnt1 <= 560; cnt1 += 40) {
-            for (int cnt2 = 40; cnt2 <= 440; cnt2 += 40) {
-                // By 40: makes placement of GameGridButton easier on JFrame.
-                GameGridButton grdButton = new GameGridButton(cnt1, cnt2);
-                grdButton.addActionListener(action -> ArenaController.gridButtonOnClick(grdButton));
-                _gameGridButtons[(cnt1 / 40) - 1][(cnt2 / 40) - 1] = grdButton;
-                _nwarena.add(grdButton);
+        // nwarena - Game Board, scrolled if larger than the area of the default Grid.
+        _board = new GameBoard(gridWidth, gridHeight);
+        MouseAdapter boardMouse = new MouseAdapter() {
+            // On press: hit-test the block.
+            public void mousePressed(MouseEvent me) {
+                _pressedGridButton = SwingUtilities.isLeftMouseButton(me) ? _board.getGridButtonAt(me.getPoint()) : null;
+            }
+
+            // On release: click, if released on the pressed block.
+            public void mouseReleased(MouseEvent me) {
+                GameGridButton grdButton = _board.getGridButtonAt(me.getPoint());
+                if (grdButton != null && grdButton == _pressedGridButton) ArenaController.gridButtonOnClick(grdButton);
+                _pressedGridButton = null;
+            }
+
+            // On move: hover the block under the mouse.
+            public void mouseMoved(MouseEvent me) {
+                hoverGridButton(_board.getGridButtonAt(me.getPoint()));
             }
-        }
+
+            public void mouseExited(MouseEvent me) {
+                hoverGridButton(null);
+            }
+        };
+        _board.addMouseListener(boardMouse);
+        _board.addMouseMotionListener(boardMouse);
+        JScrollPane scrollBoard = new JScrollPane(_board);
+        scrollBoard.setBorder(BorderFactory.createEmptyBorder());
+        scrollBoard.getHorizontalScrollBar().setUnitIncrement(GameBoard.BLOCK_SIZE);
+        scrollBoard.getVerticalScrollBar().setUnitIncrement(GameBoard.BLOCK_SIZE);
+        scrollBoard.setBounds(40, 40, Math.min(gridWidth * GameBoard.BLOCK_SIZE, BOARD_WIDTH),
+                Math.min(gridHeight * GameBoard.BLOCK_SIZE, BOARD_HEIGHT));
+        _nwarena.add(scrollBoard);
 
         // nwarena - Terminate Button
         JButton btnExit = new JButton("");
         btnExit.setBorder(BorderFactory.createEmptyBorder());
         btnExit.setBounds(775, 13, 25, 25);
-        btnExit.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Terminate.png"))));
+        btnExit.setIcon(Assets.getIcon("/img/buttons/Button_Terminate.png"));
         // On Click Event.
         btnExit.addActionListener(action -> ArenaController.exitOnClick());
 
@@ -117,21 +164,31 @@ public class Designer {
         JButton btnRest = new JButton("");
         btnRest.setBorder(BorderFactory.createEmptyBorder());
         btnRest.setBounds(620, 420, 58, 29);
-        btnRest.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Rest.png"))));
+        btnRest.setIcon(Assets.getIcon("/img/buttons/Button_Rest.png"));
         // On Click Event.
         btnRest.addActionListener(action -> ArenaController.restOnClick());
 
-        // nwarena - TextArea
-        _txtLog = new JTextArea();
-        _txtLog.setLineWrap(true);
-        _txtLog.setWrapStyleWord(true);
-        _txtLog.setBorder(BorderFactory.createEmptyBorder(3, 4, 3, 4));
-        _txtLog.setBackground(Color.BLACK);
-        _txtLog.setForeground(Color.lightGray);
-        _txtLog.setEditable(false);
-        _txtLog.setAutoscrolls(true);
-        JScrollPane scrollTextArea = new JScrollPane(_txtLog);
+        // nwarena - Log: a JList lays out and paints only the visible lines.
+        _lstLog = new JList<>();
+        _lstLog.setFont(UIManager.getFont("TextArea.font"));
+        _lstLog.setBorder(BorderFactory.createEmptyBorder(3, 4, 3, 4));
+        _lstLog.setBackground(Color.BLACK);
+        _lstLog.setForeground(Color.lightGray);
+        _lstLog.setSelectionBackground(Color.BLACK);
+        _lstLog.setSelectionForeground(Color.lightGray);
+        _lstLog.setFocusable(false);
+        JScrollPane scrollTextArea = new JScrollPane(_lstLog, ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS,
+                ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
         scrollTextArea.setBounds(45, 493, 553, 105);
+        // Fixed cells: the size of the JList is known without measuring every line.
+        _lstLog.setFixedCellHeight(_lstLog.getFontMetrics(_lstLog.getFont()).getHeight());
+        _lstLog.setFixedCellWidth(553 - 8 - scrollTextArea.getVerticalScrollBar().getPreferredSize().width);
+        // Scroll to the last line once per batch of lines.
+        _logModel = new LogModel(LOG_LINES, () -> {
+            scrollTextArea.validate();
+            _lstLog.ensureIndexIsVisible(_logModel.getSize() - 1);
+        });
+        _lstLog.setModel(_logModel);
 
         _nwarena.add(lblName);
         _nwarena.add(lblClass);
@@ -143,36 +200,65 @@ public class Designer {
         _nwarena.add(_lblPlayerHP);
         _nwarena.add(_lblPlayerAC);
         _nwarena.add(_lblPlayerAB);
+        _nwarena.add(lblWinChance);
+        _nwarena.add(_lblWinChance);
         _nwarena.add(btnExit);
         _nwarena.add(btnRest);
         _nwarena.add(scrollTextArea);
         _nwarena.pack();
+
+        // nwarena - Combat Log
+        _logTimer = new Timer(LOG_INTERVAL, action -> ArenaController.renderCombatLog());
+        _logTimer.start();
+    }
+
+    /** Move the hover to {@code grdButton}, which is null if the mouse is off the Grid. */
+    private static void hoverGridButton(GameGridButton grdButton) {
+        if (grdButton == _hoveredGridButton) return;
+        // On exit.
+        if (_hoveredGridButton != null) setWinChance("");
+        _hoveredGridButton = grdButton;
+        // On enter.
+        if (grdButton != null) ArenaController.gridButtonOnHover(grdButton);
     }
 
     /**
-     * Append JTextArea text.
+     * Append log text, wrapped to the width of the log. The oldest lines are dropped past {@value #LOG_LINES} lines.
      *
-     * @param text  Text to append.
+     * @param text  Text to append, with a line per {@code \n}.
      */
     public static void appendLogText(String text) {
-        _txtLog.append(text + "\n");
-        _txtLog.setCaretPosition(_txtLog.getDocument().getLength());
+        FontMetrics metrics = _lstLog.getFontMetrics(_lstLog.getFont());
+        int width = _lstLog.getFixedCellWidth() - 4;
+        for (String line : text.split("\n", -1)) {
+            // Break at the last space that fits, or at the last character if a word doesn't fit.
+            while (metrics.stringWidth(line) > width) {
+                int end = -1;
+                for (int space = line.indexOf(' '); space > 0 && metrics.stringWidth(line.substring(0, space)) <= width;
+                     space = line.indexOf(' ', space + 1))
+                    end = space;
+                if (end <= 0) {
+                    end = 1;
+                    while (end < line.length() - 1 && metrics.stringWidth(line.substring(0, end + 1)) <= width) end++;
+                }
+                _logModel.add(line.substring(0, end));
+                line = line.substring(end).stripLeading();
+            }
+            _logModel.add(line);
+        }
     }
 
     /** Hide then dispose JFrame. */
     public static void dispose(){
+        _logTimer.stop();
         _nwarena.dispose();
-        _backgroundMusic.stop();
-        _backgroundMusic.close();
-        _soundEffect.stop();
-        _soundEffect.close();
+        _music.close();
     }
 
     /** Play Sound Effect. */
     public static void playSoundEffect() {
-        // Don't forget to reset position.
-        _soundEffect.setMicrosecondPosition(0);
-        _soundEffect.start();
+        // Overlaps the effects still playing.
+        _soundEffects.play("/mus/mus_click.wav");
     }
 
     /**
@@ -191,6 +277,14 @@ public class Designer {
         }
     }
 
+    /**
+     * Set the predicted win chance of the current Player, against the hovered enemy.
+     *
+     * @param value  Predicted win chance, or an empty text if no enemy is hovered.
+     */
+    public static void setWinChance(String value) {
+        _lblWinChance.setText(value);
+    }
 
     /**
      * Set visible property to {@code visible}.
@@ -211,25 +305,25 @@ public class Designer {
         JOptionPane.showMessageDialog(null, text, title, JOptionPane.ERROR_MESSAGE);
     }
 
-    /** Stop Background Music. */
+    /** Stop Background Music, fading it out. */
     public static void stopBackgroundMusic() {
-        _backgroundMusic.stop();
+        _music.stop();
     }
 
-    /** Start Background Music. */
-    public static void startBackgroundMusic(boolean finish) throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+    /**
+     * Start Background Music, crossfading from the current music.
+     *
+     * @param finish  True, to play the music of the end of the game.
+     */
+    public static void startBackgroundMusic(boolean finish) {
         String musicFile = "";
-        // Stop current background music and close file.
-        _backgroundMusic.stop();
-        _backgroundMusic.close();
         // Get random music file - mus_end if this is the end of the game.
         if (finish) musicFile = "mus_end.wav";
         else {
             int randomTrack;
             // Repeat till background music is different from last played background music.
             do {
-                Random rand = new Random();
-                randomTrack = (byte) (rand.nextInt(5) + 1);
+                randomTrack = (byte) (ThreadLocalRandom.current().nextInt(5) + 1);
                 switch (randomTrack) {
                     case 1 -> musicFile = "mus_aribeth.wav";
                     case 2 -> musicFile = "mus_beggarsnest.wav";
@@ -241,23 +335,17 @@ public class Designer {
             } while (randomTrack == _backgroundMusicIndex);
             _backgroundMusicIndex = randomTrack;
         }
-        // Open and don't forget to reset position.
-        _backgroundMusic.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(Designer.class.getResource("/mus/" + musicFile))));
-        _backgroundMusic.setMicrosecondPosition(0);
-        _backgroundMusic.start();
+        // Streamed on the music thread.
+        _music.play("/mus/" + musicFile);
     }
 
-    /** Start Battle Music. */
-    public static void startBattleMusic() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+    /** Start Battle Music, crossfading from the current music. */
+    public static void startBattleMusic() {
         String musicFile = "";
-        // Stop current background music and close file.
-        _backgroundMusic.stop();
-        _backgroundMusic.close();
         int randomTrack;
         // Repeat till battle music is different from last played battle music.
         do {
-            Random rand = new Random();
-            randomTrack = (byte) (rand.nextInt(3) + 1);
+            randomTrack = (byte) (ThreadLocalRandom.current().nextInt(3) + 1);
             switch (randomTrack) {
                 case 1 -> musicFile = "mus_battle1.wav";
                 case 2 -> musicFile = "mus_battle2.wav";
@@ -266,10 +354,8 @@ public class Designer {
             }
         } while (randomTrack == _backgroundBattleMusicIndex);
         _backgroundBattleMusicIndex = randomTrack;
-        // Open and don't forget to reset position.
-        _backgroundMusic.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(Designer.class.getResource("/mus/" + musicFile))));
-        _backgroundMusic.setMicrosecondPosition(0);
-        _backgroundMusic.start();
+        // Streamed on the music thread.
+        _music.play("/mus/" + musicFile);
     }
 
     /**
@@ -282,9 +368,53 @@ public class Designer {
      * on ({@code x}, {@code y}).
      */
     public static GameGridButton getGridButton(int x, int y) {
-        if (x > 14 || x < 1) x = 1;
-        if (y > 11 || y < 1) y = 1;
-        return _gameGridButtons[x - 1][y - 1];
+        if (x > getGridWidth() || x < 1) x = 1;
+        if (y > getGridHeight() || y < 1) y = 1;
+        return _board.getGridButton(x, y);
+    }
+
+    /**
+     * Highlight the {@link GameGridButton GameGridButtons} within {@code range} of {@code center}.
+     *
+     * @param center  {@link GameGridButton} of the current Player.
+     * @param range  Distance of the highlighted blocks.
+     *
+     * @see GameBoard#setHighlight(GameGridButton, int)
+     */
+    public static void setHighlight(GameGridButton center, int range) {
+        _board.setHighlight(center, range);
+    }
+
+    /** Reset every highlighted {@link GameGridButton} to NEUTRAL. */
+    public static void clearHighlight() {
+        _board.clearHighlight();
+    }
+
+    /**
+     * Get the amount of {@link GameGridButton GameGridButtons} repainted since the last call, and reset it.
+     *
+     * @return Amount of repainted blocks.
+     */
+    public static int takeRepaintCount() {
+        return _board.takeRepaintCount();
+    }
+
+    /**
+     * Get the amount of {@link GameGridButton} columns.
+     *
+     * @return The width of the grid.
+     */
+    public static int getGridWidth() {
+        return _board.getGridWidth();
+    }
+
+    /**
+     * Get the amount of {@link GameGridButton} rows.
+     *
+     * @return The height of the grid.
+     */
+    public static int getGridHeight() {
+        return _board.getGridHeight();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package nwarena.view;
+
+import javax.swing.*;
+import java.util.ArrayDeque;
+
+/**
+ * <h3> Log Model - nwarena. </h3>
+ * Lines of the combat log of {@link Designer}, kept in a ring buffer of at most a fixed amount of lines.
+ * <p>
+ *     Adding a line past the limit drops the oldest line, so a long match uses the same memory as a short one.
+ *     Lines added during the same event of the Event Dispatch Thread are kept apart, and applied to the log on a
+ *     later event, right before the listeners are told. A burst of lines costs the {@link JList} one layout and one
+ *     repaint, and the size and lines the model reports are always the ones the listeners were told of.
+ * </p>
+ *
+ * @implNote {@code LogModel} is used on the Event Dispatch Thread only.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+final class LogModel extends AbstractListModel<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String[] _lines;
+    /** Lines added since the last flush, which the listeners don't know of yet. */
+    private final ArrayDeque<String> _pending = new ArrayDeque<>();
+    private final Runnable _onFlush;
+    private int _first, _size;
+    private boolean _flushPending;
+
+    /**
+     * Initialize an empty log.
+     *
+     * @param maxLines  Upper bound of the lines kept.
+     * @param onFlush  Run after the listeners are told of new lines.
+     */
+    LogModel(int maxLines, Runnable onFlush) {
+        _lines = new String[maxLines];
+        _onFlush = onFlush;
+    }
+
+    public int getSize() {
+        return _size;
+    }
+
+    public String getElementAt(int index) {
+        return _lines[(_first + index) % _lines.length];
+    }
+
+    /**
+     * Add a line, dropping the oldest line if the log is full, once the listeners are told.
+     *
+     * @param line  Text of the line.
+     */
+    void add(String line) {
+        // A line dropped before it is ever shown is not kept.
+        if (_pending.size() == _lines.length) _pending.removeFirst();
+        _pending.addLast(line);
+        if (!_flushPending) {
+            _flushPending = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    /** Apply the pending lines to the log, telling the listeners of the lines dropped and added. */
+    private void flush() {
+        _flushPending = false;
+        int removed = Math.max(_size + _pending.size() - _lines.length, 0);
+        if (removed > 0) {
+            for (int cnt = 0; cnt < removed; cnt++) {
+                _lines[_first] = null;
+                _first = (_first + 1) % _lines.length;
+            }
+            _size -= removed;
+            fireIntervalRemoved(this, 0, removed - 1);
+        }
+        int added = _pending.size();
+        while (!_pending.isEmpty()) {
+            _lines[(_first + _size) % _lines.length] = _pending.removeFirst();
+            _size++;
+        }
+        if (added > 0) fireIntervalAdded(this, _size - added, _size - 1);
+        _onFlush.run();
+    }
+
+}
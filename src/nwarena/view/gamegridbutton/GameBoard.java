@@ -0,0 +1,172 @@
+package nwarena.view.gamegridbutton;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+
+/**
+ * <h3> Game Board - nwarena. </h3>
+ * Used in {@link nwarena.view.Designer nwarena View}, GameBoard paints the whole Grid as a single component.
+ * <p>
+ *     Every block is a {@link GameGridButton}, painted by the board as one tile of its {@link SpriteAtlas}: its
+ *     icon over the color and border of its {@link State}. A change of a GameGridButton repaints only its block,
+ *     and Swing merges the blocks changed during an event into one dirty region. {@link #paintComponent} paints
+ *     only the blocks inside that region, into the back buffer of Swing, so the cost of a turn doesn't grow with
+ *     the size of the Grid.
+ * </p>
+ * <p>
+ *     The blocks a {@link nwarena.model.toon.Player Player} can move to or attack are highlighted with
+ *     {@link #setHighlight(GameGridButton, int) setHighlight}, which only changes the blocks whose {@link State}
+ *     differs from the previous highlight. {@link #takeRepaintCount()} counts the blocks repainted, for profiling.
+ * </p>
+ * <p> Mouse events are mapped to their GameGridButton with {@link #getGridButtonAt(Point) getGridButtonAt}. </p>
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ * @see GameGridButton
+ */
+public class GameBoard extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Size of a block, in pixels. */
+    public static final int BLOCK_SIZE = 40;
+    private static final Color BORDER = new Color(0x7d4005);
+
+    private final GameGridButton[][] _gameGridButtons;
+    private final SpriteAtlas _atlas = new SpriteAtlas(BORDER);
+    /** Highlighted blocks. */
+    private final ArrayList<GameGridButton> _highlighted = new ArrayList<>();
+    private int _repaintCount;
+
+    /**
+     * Initializes every {@link GameGridButton}, to state NEUTRAL and no icon.
+     *
+     * @param gridWidth  Amount of {@link GameGridButton} columns.
+     * @param gridHeight  Amount of {@link GameGridButton} rows.
+     */
+    public GameBoard(int gridWidth, int gridHeight) {
+        _gameGridButtons = new GameGridButton[gridWidth][gridHeight];
+        for (int x = 0; x < gridWidth; x++) {
+            for (int y = 0; y < gridHeight; y++) _gameGridButtons[x][y] = new GameGridButton(this, x + 1, y + 1);
+        }
+        setOpaque(true);
+        setPreferredSize(new Dimension(gridWidth * BLOCK_SIZE, gridHeight * BLOCK_SIZE));
+    }
+
+    /**
+     * Get the {@link GameGridButton} on ({@code x}, {@code y}).
+     *
+     * @param x  The x coordinate, from 1.
+     * @param y  The y coordinate, from 1.
+     *
+     * @return The {@link GameGridButton}.
+     */
+    public GameGridButton getGridButton(int x, int y) {
+        return _gameGridButtons[x - 1][y - 1];
+    }
+
+    /**
+     * Get the {@link GameGridButton} under {@code point}.
+     *
+     * @param point  Point on the board, in pixels.
+     *
+     * @return The {@link GameGridButton}, or null if {@code point} is outside of the Grid.
+     */
+    public GameGridButton getGridButtonAt(Point point) {
+        if (point.x < 0 || point.y < 0) return null;
+        int x = point.x / BLOCK_SIZE, y = point.y / BLOCK_SIZE;
+        if (x >= getGridWidth() || y >= getGridHeight()) return null;
+        return _gameGridButtons[x][y];
+    }
+
+    /**
+     * Get the amount of {@link GameGridButton} columns.
+     *
+     * @return The width of the grid.
+     */
+    public int getGridWidth() {
+        return _gameGridButtons.length;
+    }
+
+    /**
+     * Get the amount of {@link GameGridButton} rows.
+     *
+     * @return The height of the grid.
+     */
+    public int getGridHeight() {
+        return _gameGridButtons[0].length;
+    }
+
+    /**
+     * Highlight the blocks within {@code range} of {@code center}: FREE, or ATTACK if a
+     * {@link nwarena.model.toon.Player Player} is on them. Previously highlighted blocks out of the new range are
+     * reset to NEUTRAL, and {@code center} is always NEUTRAL. Blocks which keep their {@link State} are not
+     * repainted.
+     *
+     * @param center  {@link GameGridButton} of the current {@link nwarena.model.toon.Player Player}.
+     * @param range  Distance of the highlighted blocks, in blocks, diagonals included.
+     */
+    public void setHighlight(GameGridButton center, int range) {
+        int x = center.getCoordinates().x, y = center.getCoordinates().y;
+        // Reset the blocks which leave the highlight.
+        for (GameGridButton grdButton : _highlighted) {
+            if (Math.max(Math.abs(grdButton.getCoordinates().x - x), Math.abs(grdButton.getCoordinates().y - y)) > range)
+                grdButton.setState(State.NEUTRALBLOCK);
+        }
+        _highlighted.clear();
+        for (int x_cnt = Math.max(1, x - range); x_cnt <= Math.min(getGridWidth(), x + range); x_cnt++) {
+            for (int y_cnt = Math.max(1, y - range); y_cnt <= Math.min(getGridHeight(), y + range); y_cnt++) {
+                GameGridButton grdButton = getGridButton(x_cnt, y_cnt);
+                if (grdButton == center) continue;
+                grdButton.setState(grdButton.HasPlayer ? State.ATTACKBLOCK : State.FREEBLOCK);
+                _highlighted.add(grdButton);
+            }
+        }
+        // Current block is always state NEUTRAL.
+        center.setState(State.NEUTRALBLOCK);
+    }
+
+    /** Reset every highlighted block to NEUTRAL. */
+    public void clearHighlight() {
+        for (GameGridButton grdButton : _highlighted) grdButton.setState(State.NEUTRALBLOCK);
+        _highlighted.clear();
+    }
+
+    /**
+     * Get the amount of blocks repainted since the last call, and reset it.
+     *
+     * @return Amount of blocks marked as dirty.
+     */
+    public int takeRepaintCount() {
+        int count = _repaintCount;
+        _repaintCount = 0;
+        return count;
+    }
+
+    /** Mark the block of {@code grdButton} as dirty. */
+    void repaintBlock(GameGridButton grdButton) {
+        _repaintCount++;
+        repaint((grdButton.getCoordinates().x - 1) * BLOCK_SIZE, (grdButton.getCoordinates().y - 1) * BLOCK_SIZE,
+                BLOCK_SIZE, BLOCK_SIZE);
+    }
+
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        // Blocks inside the dirty region.
+        int x_min = Math.max(0, clip.x / BLOCK_SIZE), y_min = Math.max(0, clip.y / BLOCK_SIZE);
+        int x_max = Math.min(getGridWidth() - 1, (clip.x + clip.width - 1) / BLOCK_SIZE);
+        int y_max = Math.min(getGridHeight() - 1, (clip.y + clip.height - 1) / BLOCK_SIZE);
+        // One copy of a pre-composited tile per block.
+        Image atlas = _atlas.getImage(getGraphicsConfiguration());
+        for (int x = x_min; x <= x_max; x++) {
+            for (int y = y_min; y <= y_max; y++) {
+                GameGridButton grdButton = _gameGridButtons[x][y];
+                SpriteAtlas.drawTile(g, atlas, grdButton.getIcon(), grdButton.getState(), x * BLOCK_SIZE, y * BLOCK_SIZE);
+            }
+        }
+    }
+
+}
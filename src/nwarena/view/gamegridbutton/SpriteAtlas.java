@@ -0,0 +1,116 @@
+package nwarena.view.gamegridbutton;
+
+import autorun.view.Assets;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * <h3> Sprite Atlas - nwarena. </h3>
+ * Atlas of every block a {@link GameBoard} can paint: each {@link IconType}, pre-composited over the color and
+ * border of each {@link State}.
+ * <p>
+ *     The atlas is one image of {@link IconType} columns and {@link State} rows, built once from {@link Assets}, so
+ *     painting a block is a single copy of its tile, without filling, stroking or alpha-blending the icon. It is
+ *     copied to a {@link VolatileImage} of the screen the board is on, which is restored from the built image if
+ *     its contents are lost.
+ * </p>
+ *
+ * @implNote {@code SpriteAtlas} is used on the Event Dispatch Thread only.
+ *
+ * @author  Peter Mavrofrydis
+ * @version 1.1
+ * @since   18/10/2026
+ */
+final class SpriteAtlas {
+
+    private static final IconType[] ICONS = IconType.values();
+    private static final State[] STATES = State.values();
+    private static final int BLOCK_SIZE = GameBoard.BLOCK_SIZE;
+
+    private final BufferedImage _tiles;
+    private VolatileImage _volatileTiles;
+
+    /**
+     * Build every tile.
+     *
+     * @param border  Color of the border of a block.
+     */
+    SpriteAtlas(Color border) {
+        _tiles = new BufferedImage(ICONS.length * BLOCK_SIZE, STATES.length * BLOCK_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = _tiles.createGraphics();
+        for (IconType icon : ICONS) {
+            Image image = getIconImage(icon);
+            for (State state : STATES) {
+                int left = icon.ordinal() * BLOCK_SIZE, top = state.ordinal() * BLOCK_SIZE;
+                g.setColor(state.getColor());
+                g.fillRect(left, top, BLOCK_SIZE, BLOCK_SIZE);
+                g.setColor(border);
+                g.drawRect(left, top, BLOCK_SIZE - 1, BLOCK_SIZE - 1);
+                if (image != null)
+                    g.drawImage(image, left + (BLOCK_SIZE - image.getWidth(null)) / 2,
+                            top + (BLOCK_SIZE - image.getHeight(null)) / 2, null);
+            }
+        }
+        g.dispose();
+    }
+
+    /**
+     * Get the image of {@code icon}.
+     *
+     * @param icon  Icon type.
+     *
+     * @return The shared {@link Image}, or null for {@link IconType#EMPTY EMPTY}.
+     */
+    static Image getIconImage(IconType icon) {
+        return switch (icon) {
+            case PLAYER1 -> Assets.getImage("/img/img_p1.png");
+            case PLAYER2 -> Assets.getImage("/img/img_p2.png");
+            case PLAYER3 -> Assets.getImage("/img/img_p3.png");
+            case PLAYER4 -> Assets.getImage("/img/img_p4.png");
+            case MONSTER -> Assets.getImage("/img/img_m.png");
+            case EMPTY -> null;
+        };
+    }
+
+    /**
+     * Get the atlas to paint from, on {@code config}.
+     *
+     * @param config  Configuration of the screen of the board, or null if the board is not displayable.
+     *
+     * @return The {@link VolatileImage} of the atlas, or the built image if there is none or its contents are lost.
+     */
+    Image getImage(GraphicsConfiguration config) {
+        if (config == null) return _tiles;
+        int status = _volatileTiles == null ? VolatileImage.IMAGE_INCOMPATIBLE : _volatileTiles.validate(config);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            _volatileTiles = config.createCompatibleVolatileImage(_tiles.getWidth(), _tiles.getHeight(), Transparency.OPAQUE);
+            restore();
+        } else if (status == VolatileImage.IMAGE_RESTORED) restore();
+        return _volatileTiles.contentsLost() ? _tiles : _volatileTiles;
+    }
+
+    /**
+     * Paint the tile of {@code icon} over {@code state}, on ({@code left}, {@code top}).
+     *
+     * @param g  Graphics to paint on.
+     * @param atlas  Image returned by {@link #getImage(GraphicsConfiguration) getImage}.
+     * @param icon  Icon of the block.
+     * @param state  State of the block.
+     * @param left  Left of the block, in pixels.
+     * @param top  Top of the block, in pixels.
+     */
+    static void drawTile(Graphics g, Image atlas, IconType icon, State state, int left, int top) {
+        int x = icon.ordinal() * BLOCK_SIZE, y = state.ordinal() * BLOCK_SIZE;
+        g.drawImage(atlas, left, top, left + BLOCK_SIZE, top + BLOCK_SIZE, x, y, x + BLOCK_SIZE, y + BLOCK_SIZE, null);
+    }
+
+    /** Copy the built tiles to the {@link VolatileImage}. */
+    private void restore() {
+        Graphics2D g = _volatileTiles.createGraphics();
+        g.drawImage(_tiles, 0, 0, null);
+        g.dispose();
+    }
+
+}
@@ -1,8 +1,25 @@
 package nwarena.view.gamegridbutton;
 
-/** Available states of a {@link GameGridButton GameGridButton}. */
+import java.awt.*;
+
+/** Available states of a {@link GameGridButton GameGridButton}, with the color of each. */
 public enum State {
-    FREEBLOCK,
-    ATTACKBLOCK,
-    NEUTRALBLOCK,
+    FREEBLOCK(new Color(0x01bf00)),
+    ATTACKBLOCK(new Color(0xc80a0a)),
+    NEUTRALBLOCK(new Color(0x383838));
+
+    private final Color _color;
+
+    State(Color color) {
+        _color = color;
+    }
+
+    /**
+     * Get the color of a {@link GameGridButton} in this state.
+     *
+     * @return The shared {@link Color}.
+     */
+    public Color getColor() {
+        return _color;
+    }
 }
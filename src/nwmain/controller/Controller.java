@@ -1,9 +1,9 @@
 package nwmain.controller;
 
+import autorun.view.Assets;
 import nwmain.view.*;
 
 import javax.swing.*;
-import java.util.Objects;
 
 /**
  * <h3> Controller - nwmain. </h3>
@@ -32,19 +32,29 @@ public class Controller {
 
     /**
      * <u>Button</u> Event Listener:
-     * <p> Show "New Game" window. </p>
+     * <p> Resume the autosaved arena, if there is one and the user agrees. Otherwise, show "New Game" window. </p>
      * <p> Alter JButton's image. </p>
      *
      * @param sender  JButton caller.
      **/
     public static void newOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_PNew.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PNew.png"));
         // Stop background music and play click SFX.
         Designer.playSoundEffect();
         // Timer for effect.
         Timer timer = new Timer(150, actionTimer -> {
-            sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_New.png"))));
+            sender.setIcon(Assets.getIcon("/img/buttons/Button_New.png"));
+            // Offer to resume the autosaved arena.
+            nwarena.model.Game saved = nwarena.controller.ArenaController.loadAutosave();
+            if (saved != null && Designer.showConfirm("NWMain - Resume.", "Resume the unfinished arena?")) {
+                Designer.stopBackgroundMusic();
+                // Dispose then garbage collector.
+                Designer.dispose(WindowType.ALL);
+                System.gc();
+                new nwarena.controller.ArenaController(saved, Designer.getFastResolve());
+                return;
+            }
             Designer.setVisible(WindowType.SELECTION, true);
         });
         timer.setRepeats(false);
@@ -60,12 +70,12 @@ public class Controller {
      **/
     public static void creditsOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_PCredits.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PCredits.png"));
         // Stop background music and play click SFX.
         Designer.playSoundEffect();
         // Timer for effect.
         Timer timer = new Timer(150, actionTimer -> {
-            sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_Credits.png"))));
+            sender.setIcon(Assets.getIcon("/img/buttons/Button_Credits.png"));
             Designer.setVisible(WindowType.CREDITS, true);
         });
         timer.setRepeats(false);
@@ -81,13 +91,13 @@ public class Controller {
      **/
     public static void exitOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_PExit.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PExit.png"));
         // Stop background music and play click SFX.
         Designer.stopBackgroundMusic();
         Designer.playSoundEffect();
         // Timer for effect.
         Timer timer = new Timer(150, actionTimer -> {
-            sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_Exit.png"))));
+            sender.setIcon(Assets.getIcon("/img/buttons/Button_Exit.png"));
             exit();
         });
         timer.setRepeats(false);
@@ -103,12 +113,12 @@ public class Controller {
      **/
     public static void creditsCloseOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_PClose.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PClose.png"));
         // Stop background music and play click SFX.
         Designer.playSoundEffect();
         // Timer for effect.
         Timer timer = new Timer(150, actionTimer -> {
-            sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_Close.png"))));
+            sender.setIcon(Assets.getIcon("/img/buttons/Button_Close.png"));
             Designer.setVisible(WindowType.CREDITS, false);
         });
         timer.setRepeats(false);
@@ -124,12 +134,12 @@ public class Controller {
      **/
     public static void selectionOkOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_POK.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_POK.png"));
         // Stop background music and play click SFX.
         Designer.playSoundEffect();
         // Timer for effect.
         Timer timer = new Timer(150, actionTimer -> {
-            sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_OK.png"))));
+            sender.setIcon(Assets.getIcon("/img/buttons/Button_OK.png"));
             Designer.stopBackgroundMusic();
             // Dispose then garbage collector.
             Designer.dispose(WindowType.ALL);
@@ -138,7 +148,7 @@ public class Controller {
             new nwarena.controller.ArenaController(Designer.getMonsterCount(), Designer.getTextFieldValue(0), Designer.getComboBoxValue(0),
                     Designer.getTextFieldValue(1), Designer.getComboBoxValue(1),
                     Designer.getTextFieldValue(2), Designer.getComboBoxValue(2),
-                    Designer.getTextFieldValue(3), Designer.getComboBoxValue(3));
+                    Designer.getTextFieldValue(3), Designer.getComboBoxValue(3), Designer.getFastResolve());
         });
         timer.setRepeats(false);
         timer.start();
@@ -153,12 +163,12 @@ public class Controller {
      **/
     public static void selectionCloseOnClick(JButton sender) {
         // Update JButton image.
-        sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_PClose.png"))));
+        sender.setIcon(Assets.getIcon("/img/buttons/Button_PClose.png"));
         // Stop background music and play click SFX.
         Designer.playSoundEffect();
         // Timer for effect.
         Timer timer = new Timer(150, actionTimer -> {
-            sender.setIcon(new ImageIcon(Objects.requireNonNull(autorun.controller.Controller.class.getResource("/img/buttons/Button_Close.png"))));
+            sender.setIcon(Assets.getIcon("/img/buttons/Button_Close.png"));
             Designer.setVisible(WindowType.SELECTION, false);
         });
         timer.setRepeats(false);
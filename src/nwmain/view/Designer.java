@@ -1,5 +1,7 @@
 package nwmain.view;
 
+import autorun.view.Assets;
+import autorun.view.SoundEffects;
 import nwmain.controller.Controller;
 
 import javax.sound.sampled.*;
@@ -7,8 +9,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.IOException;
-import java.util.Objects;
 
 
 /**
@@ -26,7 +26,7 @@ public class Designer {
     private static JWindow _credits;
     private static JWindow _selection;
     private static Clip _backgroundMusic;
-    private static Clip _soundEffect;
+    private static SoundEffects _soundEffects;
     private static JComboBox<String> _cmbxClass1 = new JComboBox<>();
     private static JComboBox<String> _cmbxClass2 = new JComboBox<>();
     private static JComboBox<String> _cmbxClass3 = new JComboBox<>();
@@ -36,18 +36,18 @@ public class Designer {
     private static JTextField _txfName3;
     private static JTextField _txfName4;
     private static JSpinner _spnMonsters;
+    private static JCheckBox _chkFastResolve;
 
     /**
      * Initialization for JFrame and JWindows, background music and SFX.
      * <p> Start music playback with the {@link #startBackgroundMusic() startBackgroundMusic} method. </p>
      * <p> Play SFX with the {@link #playSoundEffect() playSoundEffect} method. </p>
      */
-    public Designer() throws LineUnavailableException, UnsupportedAudioFileException, IOException {
-        // Load music.
-        _backgroundMusic = AudioSystem.getClip();
-        _backgroundMusic.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(getClass().getResource("/mus/mus_main.wav"))));
-        _soundEffect = AudioSystem.getClip();
-        _soundEffect.open(AudioSystem.getAudioInputStream(Objects.requireNonNull(getClass().getResource("/mus/mus_click.wav"))));
+    public Designer() throws LineUnavailableException {
+        // Load music, usually decoded already by the preload of autorun.
+        _backgroundMusic = Assets.openClip("/mus/mus_main.wav");
+        _soundEffects = SoundEffects.getShared();
+        _soundEffects.load("/mus/mus_click.wav");
 
         initializeMain();
         initializeCredits();
@@ -63,8 +63,8 @@ public class Designer {
         _nwmain.setLocationRelativeTo(null);
         _nwmain.setUndecorated(true);
         _nwmain.setAlwaysOnTop(true);
-        _nwmain.setContentPane(new JLabel(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/img_menu.png")))));
-        _nwmain.setIconImage(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/icon.png"))).getImage());
+        _nwmain.setContentPane(new JLabel(Assets.getIcon("/img/img_menu.png")));
+        _nwmain.setIconImage(Assets.getImage("/icon.png"));
 
         JButton btnNew = new JButton("");
         JButton btnCredits = new JButton("");
@@ -73,17 +73,17 @@ public class Designer {
         // Button - New
         btnNew.setBorder(BorderFactory.createEmptyBorder());
         btnNew.setBounds(324, 300, 176, 49);
-        btnNew.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_New.png"))));
+        btnNew.setIcon(Assets.getIcon("/img/buttons/Button_New.png"));
         // Mouse Hover Event
         btnNew.addMouseListener(new MouseAdapter() {
             // On enter.
             public void mouseEntered(MouseEvent me) {
-                btnNew.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HNew.png"))));
+                btnNew.setIcon(Assets.getIcon("/img/buttons/Button_HNew.png"));
             }
 
             // On exit.
             public void mouseExited(MouseEvent me) {
-                btnNew.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_New.png"))));
+                btnNew.setIcon(Assets.getIcon("/img/buttons/Button_New.png"));
             }
         });
         // On Click Event.
@@ -92,17 +92,17 @@ public class Designer {
         // Button - Credits
         btnCredits.setBorder(BorderFactory.createEmptyBorder());
         btnCredits.setBounds(324, 360, 176, 49);
-        btnCredits.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Credits.png"))));
+        btnCredits.setIcon(Assets.getIcon("/img/buttons/Button_Credits.png"));
         // Mouse Hover Event
         btnCredits.addMouseListener(new MouseAdapter() {
             // On enter.
             public void mouseEntered(MouseEvent me) {
-                btnCredits.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HCredits.png"))));
+                btnCredits.setIcon(Assets.getIcon("/img/buttons/Button_HCredits.png"));
             }
 
             // On exit.
             public void mouseExited(MouseEvent me) {
-                btnCredits.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_Credits.png"))));
+                btnCredits.setIcon(Assets.getIcon("/img/buttons/Button_Credits.png"));
             }
         });
         // On Click Event.
@@ -111,17 +111,17 @@ public class Designer {
         // Button - Exit
         btnExit.setBounds(324, 420, 176, 49);
         btnExit.setBorder(BorderFactory.createEmptyBorder());
-        btnExit.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Exit.png"))));
+        btnExit.setIcon(Assets.getIcon("/img/buttons/Button_Exit.png"));
         // Mouse Hover Event
         btnExit.addMouseListener(new MouseAdapter() {
             // On enter.
             public void mouseEntered(MouseEvent me) {
-                btnExit.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HExit.png"))));
+                btnExit.setIcon(Assets.getIcon("/img/buttons/Button_HExit.png"));
             }
 
             // On exit.
             public void mouseExited(MouseEvent me) {
-                btnExit.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_Exit.png"))));
+                btnExit.setIcon(Assets.getIcon("/img/buttons/Button_Exit.png"));
             }
         });
         // On Click Event.
@@ -139,22 +139,22 @@ public class Designer {
         _credits.setSize(429, 446);
         _credits.setLocationRelativeTo(null);
         _credits.setAlwaysOnTop(true);
-        _credits.setContentPane(new JLabel(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/img_credits.png")))));
-        _credits.setIconImage(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/icon.png"))).getImage());
+        _credits.setContentPane(new JLabel(Assets.getIcon("/img/img_credits.png")));
+        _credits.setIconImage(Assets.getImage("/icon.png"));
 
         // Button - Credits - Close
         JButton btnCreditsClose = new JButton("");
         btnCreditsClose.setBorder(BorderFactory.createEmptyBorder());
         btnCreditsClose.setBounds(125, 390, 176, 49);
-        btnCreditsClose.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Close.png"))));
+        btnCreditsClose.setIcon(Assets.getIcon("/img/buttons/Button_Close.png"));
         // Mouse Hover Event.
         btnCreditsClose.addMouseListener(new MouseAdapter() {
             public void mouseEntered(MouseEvent me) {
-                btnCreditsClose.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HClose.png"))));
+                btnCreditsClose.setIcon(Assets.getIcon("/img/buttons/Button_HClose.png"));
             }
 
             public void mouseExited(MouseEvent me) {
-                btnCreditsClose.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_Close.png"))));
+                btnCreditsClose.setIcon(Assets.getIcon("/img/buttons/Button_Close.png"));
             }
         });
         // On Click Event.
@@ -171,8 +171,8 @@ public class Designer {
         _selection.setLocationRelativeTo(null);
         _selection.setAlwaysOnTop(true);
         _selection.setFocusableWindowState(true);
-        _selection.setContentPane(new JLabel(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/img_newg.png")))));
-        _selection.setIconImage(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/icon.png"))).getImage());
+        _selection.setContentPane(new JLabel(Assets.getIcon("/img/img_newg.png")));
+        _selection.setIconImage(Assets.getImage("/icon.png"));
 
         JLabel lblSelectionName1 = new JLabel("Player 1:");
         JLabel lblSelectionName2 = new JLabel("Player 2:");
@@ -192,6 +192,7 @@ public class Designer {
         _txfName3 = new JTextField("Garrus Valkyrion", 1);
         _txfName4 = new JTextField("Dominator Gavernicus", 1);
         _spnMonsters = new JSpinner(new SpinnerNumberModel(16, 16, 32, 1));
+        _chkFastResolve = new JCheckBox("Fast Resolve");
 
         // Selection - Labels
         lblSelectionName1.setBounds(15, 60, 50, 24);
@@ -276,19 +277,25 @@ public class Designer {
         _spnMonsters.setForeground(Color.lightGray);
         _spnMonsters.setBorder(BorderFactory.createMatteBorder(0, 0, 0, 0, Color.DARK_GRAY));
 
+        // Selection - Check Boxes
+        _chkFastResolve.setBounds(11, 260, 165, 24);
+        _chkFastResolve.setOpaque(false);
+        _chkFastResolve.setForeground(Color.lightGray);
+        _chkFastResolve.setToolTipText("Resolve every fight in one step.");
+
         // Selection - OK Button
         JButton btnSelectionOK = new JButton("");
         btnSelectionOK.setBorder(BorderFactory.createEmptyBorder());
         btnSelectionOK.setBounds(9, 390, 176, 49);
-        btnSelectionOK.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_OK.png"))));
+        btnSelectionOK.setIcon(Assets.getIcon("/img/buttons/Button_OK.png"));
         // Mouse Hover Event.
         btnSelectionOK.addMouseListener(new MouseAdapter() {
             public void mouseEntered(MouseEvent me) {
-                btnSelectionOK.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HOK.png"))));
+                btnSelectionOK.setIcon(Assets.getIcon("/img/buttons/Button_HOK.png"));
             }
 
             public void mouseExited(MouseEvent me) {
-                btnSelectionOK.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_OK.png"))));
+                btnSelectionOK.setIcon(Assets.getIcon("/img/buttons/Button_OK.png"));
             }
         });
         // On Click Event.
@@ -299,15 +306,15 @@ public class Designer {
         JButton btnSelectionClose = new JButton("");
         btnSelectionClose.setBorder(BorderFactory.createEmptyBorder());
         btnSelectionClose.setBounds(245, 390, 176, 49);
-        btnSelectionClose.setIcon(new ImageIcon(Objects.requireNonNull(Designer.class.getResource("/img/buttons/Button_Close.png"))));
+        btnSelectionClose.setIcon(Assets.getIcon("/img/buttons/Button_Close.png"));
         // Mouse Hover Event.
         btnSelectionClose.addMouseListener(new MouseAdapter() {
             public void mouseEntered(MouseEvent me) {
-                btnSelectionClose.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_HClose.png"))));
+                btnSelectionClose.setIcon(Assets.getIcon("/img/buttons/Button_HClose.png"));
             }
 
             public void mouseExited(MouseEvent me) {
-                btnSelectionClose.setIcon(new ImageIcon(Objects.requireNonNull(getClass().getResource("/img/buttons/Button_Close.png"))));
+                btnSelectionClose.setIcon(Assets.getIcon("/img/buttons/Button_Close.png"));
             }
         });
         // On Click Event.
@@ -334,6 +341,7 @@ public class Designer {
         _selection.add(_txfName3);
         _selection.add(_txfName4);
         _selection.add(_spnMonsters);
+        _selection.add(_chkFastResolve);
         _selection.pack();
     }
 
@@ -403,6 +411,15 @@ public class Designer {
         return (Integer) _spnMonsters.getValue();
     }
 
+    /**
+     * Get the JCheckBox value.
+     *
+     * @return True, if every fight of the {@link nwarena.model.Game Game} should be resolved in one step.
+     */
+    public static boolean getFastResolve() {
+        return _chkFastResolve.isSelected();
+    }
+
     /**
      * Get the JTextField value, defined by {@code number}.
      *
@@ -460,11 +477,22 @@ public class Designer {
         JOptionPane.showMessageDialog(null, text, title, JOptionPane.ERROR_MESSAGE);
     }
 
+    /**
+     * Ask a yes or no question on a {@link JOptionPane}.
+     *
+     * @param title  Defines the title of the question.
+     * @param text  Defines the body of the question.
+     *
+     * @return True, if the answer is yes.
+     */
+    public static boolean showConfirm(String title, String text) {
+        return JOptionPane.showConfirmDialog(null, text, title, JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION;
+    }
+
     /** Play Sound Effect. */
     public static void playSoundEffect() {
-        // Don't forget to reset position.
-        _soundEffect.setMicrosecondPosition(0);
-        _soundEffect.start();
+        // Overlaps the effects still playing.
+        _soundEffects.play("/mus/mus_click.wav");
     }
 
     /** Start Background Music. */